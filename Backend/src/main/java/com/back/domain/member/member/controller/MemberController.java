@@ -22,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.OptionalInt;
 
 @RestController
 @RequestMapping("/api/members")
@@ -151,10 +152,12 @@ public class MemberController {
         Member member = memberService.findById(actor.getId())
                 .orElseThrow(() -> new ServiceException(404, "존재하지 않는 회원입니다."));
 
+        OptionalInt rank = memberService.getRank(member.getId());
+
         return new RsData<>(
                 200,
                 "내 정보 조회 완료",
-                new MemberWithInfoDto(member)
+                new MemberWithInfoDto(member, rank.isPresent() ? rank.getAsInt() : null)
         );
     }
 
@@ -235,4 +238,24 @@ public class MemberController {
                 members
         );
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "내 주변 경험치 순위 조회", description = "내 순위 앞뒤로 range 명씩 (최대 10) 조회합니다.")
+    @GetMapping("/rank/around")
+    public RsData<List<MemberWithRankDto>> rankAround(@RequestParam(defaultValue = "2") int range) {
+        Member actor = rq.getActor();
+        if (actor == null) {
+            throw new ServiceException(401, "로그인이 필요합니다.");
+        }
+        if (range < 0 || range > 10) {
+            throw new ServiceException(400, "range 는 0 ~ 10 사이의 값이어야 합니다.");
+        }
+
+        List<MemberWithRankDto> members = memberService.getRanksAround(actor.getId(), range);
+
+        return new RsData<>(
+                200,
+                "주변 경험치 순위 조회 완료",
+                members
+        );
+    }
+}
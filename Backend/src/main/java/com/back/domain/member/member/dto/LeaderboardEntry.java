@@ -0,0 +1,11 @@
+package com.back.domain.member.member.dto;
+
+// MemberLeaderboard 에 보관하는 회원 정보 (경험치 순위 계산용 프로젝션)
+public record LeaderboardEntry(
+        long id,
+        String name,
+        String email,
+        int exp,
+        int level
+) {
+}
@@ -16,8 +16,13 @@ public class MemberWithInfoDto {
     private String role;
     private String characterImage; // 레벨에 따른 캐릭터 이미지
     private String profileImgUrl;
+    private Integer rank; // 경험치 순위 (1부터, 알 수 없으면 null)
 
     public MemberWithInfoDto(Member member) {
+        this(member, null);
+    }
+
+    public MemberWithInfoDto(Member member, Integer rank) {
         this.id = member.getId();
         this.name = member.getName();
         this.email = member.getEmail();
@@ -26,5 +31,6 @@ public class MemberWithInfoDto {
         this.characterImage = LevelSystem.getImageByLevel(level);
         this.role = member.getRole();
         this.profileImgUrl = member.getProfileImgUrlOrDefault();
+        this.rank = rank;
     }
 }
@@ -22,7 +22,8 @@ import java.util.List;
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_gen")
+    @SequenceGenerator(name = "member_seq_gen", sequenceName = "member_seq", allocationSize = 50)
     @Setter(AccessLevel.PRIVATE)
     @EqualsAndHashCode.Include
     private long id;
@@ -1,8 +1,14 @@
 package com.back.domain.member.member.repository;
 
+import com.back.domain.member.member.dto.LeaderboardEntry;
 import com.back.domain.member.member.entity.Member;
+import com.back.global.util.LevelSystem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +22,24 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByOauthId(String oauthId);
 
-    List<Member> findTop5ByOrderByExpDesc();
+    @Query("SELECT new com.back.domain.member.member.dto.LeaderboardEntry(m.id, m.name, m.email, m.exp, m.level) FROM Member m")
+    List<LeaderboardEntry> findLeaderboardEntries();
+
+    @Query("SELECT new com.back.domain.member.member.dto.LeaderboardEntry(m.id, m.name, m.email, m.exp, m.level) FROM Member m WHERE m.id IN :ids")
+    List<LeaderboardEntry> findLeaderboardEntriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 경험치를 더하고 레벨을 다시 계산합니다. 회원 행을 읽지 않고 UPDATE 한 번으로 처리하므로 동시 제출에도 경험치가 유실되지 않습니다.
+     * MySQL 은 SET 절을 왼쪽부터 적용하면서 앞에서 바꾼 값을 보므로, level 을 exp 보다 먼저 계산합니다.
+     *
+     * @return 갱신된 행 수 (회원이 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.level = CASE"
+            + " WHEN m.exp + :gainExp >= " + LevelSystem.LEVEL_3_EXP + " THEN 3"
+            + " WHEN m.exp + :gainExp >= " + LevelSystem.LEVEL_2_EXP + " THEN 2"
+            + " ELSE 1 END,"
+            + " m.exp = m.exp + :gainExp"
+            + " WHERE m.id = :memberId")
+    int addExp(@Param("memberId") long memberId, @Param("gainExp") int gainExp);
 }
\ No newline at end of file
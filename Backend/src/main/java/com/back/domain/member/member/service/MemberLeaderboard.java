@@ -0,0 +1,164 @@
+package com.back.domain.member.member.service;
+
+import com.back.domain.member.member.dto.LeaderboardEntry;
+import com.back.domain.member.member.dto.MemberWithRankDto;
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import com.back.global.util.OrderStatisticTree;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경험치 순위표를 메모리에 보관합니다. 순위 조회마다 member 테이블 전체를 정렬하지 않도록 (경험치 내림차순, ID 오름차순) 으로 정렬된 OrderStatisticTree 를 사용합니다.
+ * - 상위 N명, 특정 회원의 순위, 회원 주변 순위를 O(log n) 에 조회합니다.
+ * - 시작 시 DB 에서 전체를 읽어 만들고, 이후에는 MEMBER 토픽(가입/수정/탈퇴, 경험치 변경)으로 바뀐 회원 ID 만 표시해 두었다가
+ *   다음 조회 때 해당 회원만 다시 읽어 반영합니다. (커밋 이후 콜백에서 DB 를 읽지 않기 위함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberLeaderboard {
+    private static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparingInt(LeaderboardEntry::exp).reversed()
+            .thenComparingLong(LeaderboardEntry::id);
+
+    private final MemberRepository memberRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // ranking, entries 는 this 로 동기화 (조회와 반영만 잠그고, DB 읽기는 refreshLock 만 잡은 채 실행)
+    private final OrderStatisticTree<LeaderboardEntry> ranking = new OrderStatisticTree<>(ORDER);
+    private final Map<Long, LeaderboardEntry> entries = new HashMap<>();
+
+    // 갱신끼리는 순서대로 실행해야 먼저 읽은 값이 나중에 읽은 값을 덮어쓰지 않음
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Set<Long> staleMemberIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuildRequired = true;
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheTopic.MEMBER, key -> {
+            if (key == null) {
+                rebuildRequired = true;
+            } else {
+                staleMemberIds.add(Long.parseLong(key));
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            rebuildRequired = false;
+            staleMemberIds.clear();
+            List<LeaderboardEntry> loaded = memberRepository.findLeaderboardEntries();
+            synchronized (this) {
+                ranking.clear();
+                entries.clear();
+                loaded.forEach(this::put);
+            }
+            log.info("경험치 순위표 초기화 완료 - 회원 {}명", loaded.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public List<MemberWithRankDto> top(int size) {
+        refresh();
+        synchronized (this) {
+            return toDtos(0, size);
+        }
+    }
+
+    // 1부터 시작하는 순위 (순위표에 없으면 empty)
+    public OptionalInt rankOf(long memberId) {
+        refresh();
+        synchronized (this) {
+            LeaderboardEntry entry = entries.get(memberId);
+            return entry == null ? OptionalInt.empty() : OptionalInt.of(ranking.rank(entry) + 1);
+        }
+    }
+
+    // 회원 앞뒤로 range 명씩 (본인 포함)
+    public List<MemberWithRankDto> around(long memberId, int range) {
+        refresh();
+        synchronized (this) {
+            LeaderboardEntry entry = entries.get(memberId);
+            if (entry == null) {
+                return List.of();
+            }
+            int index = ranking.rank(entry);
+            return toDtos(index - range, range * 2 + 1);
+        }
+    }
+
+    private List<MemberWithRankDto> toDtos(int from, int count) {
+        int start = Math.max(from, 0);
+        int end = from + count;
+        List<LeaderboardEntry> window = ranking.range(start, end - start);
+
+        List<MemberWithRankDto> result = new ArrayList<>(window.size());
+        for (int i = 0; i < window.size(); i++) {
+            result.add(new MemberWithRankDto(start + i + 1, window.get(i)));
+        }
+        return result;
+    }
+
+    // 변경 표시된 회원만 DB 에서 다시 읽고, 순위표에는 this 를 잡은 뒤 한 번에 반영 (바뀐 회원이 없으면 잠그지 않음)
+    private void refresh() {
+        if (!rebuildRequired && staleMemberIds.isEmpty()) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            if (rebuildRequired) {
+                rebuild();
+                return;
+            }
+            if (staleMemberIds.isEmpty()) {
+                return; // 기다리는 동안 다른 스레드가 반영함
+            }
+
+            List<Long> ids = new ArrayList<>(staleMemberIds);
+            staleMemberIds.removeAll(ids);
+
+            Map<Long, LeaderboardEntry> loaded = new HashMap<>();
+            memberRepository.findLeaderboardEntriesByIdIn(ids).forEach(entry -> loaded.put(entry.id(), entry));
+
+            synchronized (this) {
+                for (Long id : ids) {
+                    remove(id);
+                    LeaderboardEntry entry = loaded.get(id);
+                    if (entry != null) {
+                        put(entry); // 없으면 탈퇴한 회원
+                    }
+                }
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void put(LeaderboardEntry entry) {
+        entries.put(entry.id(), entry);
+        ranking.add(entry);
+    }
+
+    private void remove(long memberId) {
+        LeaderboardEntry previous = entries.remove(memberId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+}
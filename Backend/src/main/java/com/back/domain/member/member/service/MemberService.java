@@ -3,6 +3,8 @@ package com.back.domain.member.member.service;
 import com.back.domain.member.member.dto.MemberWithRankDto;
 import com.back.domain.member.member.entity.Member;
 import com.back.domain.member.member.repository.MemberRepository;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
 import com.back.global.exception.ServiceException;
 import com.back.global.rsData.RsData;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 @Service
@@ -21,6 +24,8 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final AuthTokenService authTokenService;
     private final PasswordEncoder passwordEncoder;
+    private final MemberLeaderboard memberLeaderboard;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     // 기본 회원가입
     public Member join(String name, String password, String email) {
@@ -43,7 +48,9 @@ public class MemberService {
                 .oauthId(null)
                 .build();
 
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        cacheInvalidationBus.publish(CacheTopic.MEMBER, saved.getId());
+        return saved;
     }
 
     // 소셜로그인으로 회원가입 & 회원 정보 수정
@@ -81,13 +88,16 @@ public class MemberService {
                 .oauthId(oauthId)
                 .build();
 
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        cacheInvalidationBus.publish(CacheTopic.MEMBER, saved.getId());
+        return saved;
     }
 
     public void modifySocial(Member member, String nickname, String profileImgUrl){
         member.setName(nickname);
         member.setProfileImgUrl(profileImgUrl);
         memberRepository.save(member);
+        cacheInvalidationBus.publish(CacheTopic.MEMBER, member.getId());
     }
 
     public Optional<Member> findByEmail(String email) {
@@ -124,6 +134,7 @@ public class MemberService {
         member.setPassword(passwordEncoder.encode(password));
         member.setEmail(email);
         memberRepository.save(member);
+        cacheInvalidationBus.publish(CacheTopic.MEMBER, member.getId());
     }
 
     public void withdraw(Member member) {
@@ -131,6 +142,7 @@ public class MemberService {
             throw new ServiceException(403,"관리자는 탈퇴할 수 없습니다.");
 
         memberRepository.delete(member);
+        cacheInvalidationBus.publish(CacheTopic.MEMBER, member.getId());
     }
 
     public List<Member> findAll() {
@@ -142,10 +154,14 @@ public class MemberService {
     }
 
     public List<MemberWithRankDto> getTop5MembersByExp() {
-        List<Member> members = memberRepository.findTop5ByOrderByExpDesc();
+        return memberLeaderboard.top(5);
+    }
+
+    public OptionalInt getRank(long memberId) {
+        return memberLeaderboard.rankOf(memberId);
+    }
 
-        return members.stream()
-                .map(MemberWithRankDto::new)
-                .toList();
+    public List<MemberWithRankDto> getRanksAround(long memberId, int range) {
+        return memberLeaderboard.around(memberId, range);
     }
 }
@@ -0,0 +1,43 @@
+package com.back.domain.member.quizhistory.dto;
+
+import com.back.domain.quiz.QuizType;
+
+import java.time.LocalDateTime;
+
+// 아직 DB 에 반영되지 않은 퀴즈 풀이 기록 (QuizHistoryWriteBehind 의 버퍼/로그 한 줄)
+public record PendingQuizHistory(
+        long memberId,
+        QuizType quizType,
+        Long quizId,
+        String answer,
+        boolean isCorrect,
+        int gainExp,
+        LocalDateTime createdDate
+) {
+    public String toLogLine() {
+        return String.join("\t",
+                String.valueOf(memberId),
+                quizType.name(),
+                String.valueOf(quizId),
+                answer.replace('\t', ' ').replace('\n', ' '),
+                String.valueOf(isCorrect),
+                String.valueOf(gainExp),
+                createdDate.toString());
+    }
+
+    public static PendingQuizHistory fromLogLine(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 7) {
+            throw new IllegalArgumentException("잘못된 풀이 기록 로그: " + line);
+        }
+        return new PendingQuizHistory(
+                Long.parseLong(fields[0]),
+                QuizType.valueOf(fields[1]),
+                Long.parseLong(fields[2]),
+                fields[3],
+                Boolean.parseBoolean(fields[4]),
+                Integer.parseInt(fields[5]),
+                LocalDateTime.parse(fields[6])
+        );
+    }
+}
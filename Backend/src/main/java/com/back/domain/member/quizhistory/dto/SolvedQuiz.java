@@ -0,0 +1,10 @@
+package com.back.domain.member.quizhistory.dto;
+
+import com.back.domain.quiz.QuizType;
+
+// 회원이 푼 퀴즈 (SolvedQuizCache 적재용 프로젝션)
+public record SolvedQuiz(
+        QuizType quizType,
+        Long quizId
+) {
+}
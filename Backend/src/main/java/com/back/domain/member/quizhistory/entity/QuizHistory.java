@@ -5,8 +5,6 @@ import com.back.domain.quiz.QuizType;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
@@ -15,7 +13,6 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
-@EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Table(
         name = "quiz_history",
@@ -24,7 +21,8 @@ import java.time.LocalDateTime;
 public class QuizHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_history_seq_gen")
+    @SequenceGenerator(name = "quiz_history_seq_gen", sequenceName = "quiz_history_seq", allocationSize = 50)
     @Setter(AccessLevel.PRIVATE)
     @EqualsAndHashCode.Include
     private Long id;
@@ -41,9 +39,8 @@ public class QuizHistory {
     @Column(nullable = false)
     private Long quizId; // 퀴즈 ID
 
-    @CreatedDate
     @Setter(AccessLevel.PRIVATE)
-    private LocalDateTime createdDate; // 퀴즈 풀이 시간
+    private LocalDateTime createdDate; // 퀴즈 풀이 시간 (write-behind 로 늦게 저장되어도 제출 시각 유지)
 
     @Column(nullable = false)
     String answer; // 유저 정답
@@ -54,4 +51,10 @@ public class QuizHistory {
     @Column(nullable = false)
     int gainExp; // 퀴즈 풀이로 얻은 경험치
 
+    @PrePersist
+    void prePersist() {
+        if (createdDate == null) {
+            createdDate = LocalDateTime.now();
+        }
+    }
 }
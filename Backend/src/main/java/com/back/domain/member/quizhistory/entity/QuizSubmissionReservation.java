@@ -0,0 +1,47 @@
+package com.back.domain.member.quizhistory.entity;
+
+import com.back.domain.quiz.QuizType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// write-behind 로 아직 저장되지 않은 풀이 기록의 중복 제출을 모든 노드에서 막기 위한 예약 (QuizHistoryWriteBehind 가 요청 트랜잭션에서 INSERT)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "quiz_submission_reservation",
+        uniqueConstraints = @UniqueConstraint(name = "uk_quiz_submission_reservation", columnNames = {"memberId", "quizId", "quizType"}),
+        indexes = @Index(name = "idx_quiz_submission_reservation_created_at", columnList = "createdAt")
+)
+public class QuizSubmissionReservation {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY) // INSERT 를 바로 실행해 유니크 제약 위반을 예약 시점에 확인
+    private Long id;
+
+    @Column(nullable = false)
+    private long memberId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private QuizType quizType;
+
+    @Column(nullable = false)
+    private Long quizId;
+
+    @CreationTimestamp(source = SourceType.DB) // 노드마다 시계가 다를 수 있으므로 DB 시각으로 기록 (보관 기간 정리용)
+    private LocalDateTime createdAt;
+
+    public QuizSubmissionReservation(long memberId, QuizType quizType, Long quizId) {
+        this.memberId = memberId;
+        this.quizType = quizType;
+        this.quizId = quizId;
+    }
+}
@@ -1,15 +1,27 @@
 package com.back.domain.member.quizhistory.repository;
 
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.quizhistory.dto.SolvedQuiz;
 import com.back.domain.member.quizhistory.entity.QuizHistory;
 import com.back.domain.quiz.QuizType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public interface QuizHistoryRepository extends JpaRepository<QuizHistory, Long> {
 
     List<QuizHistory> findByMember(Member actor);
     List<QuizHistory> findByMemberAndQuizTypeAndQuizIdIn(Member member, QuizType quizType, Set<Long> quizIds);
+
+    // (member_id, quiz_id, quizType) 유니크 인덱스로 단건 조회
+    Optional<QuizHistory> findByMemberAndQuizIdAndQuizType(Member member, Long quizId, QuizType quizType);
+
+    boolean existsByMemberIdAndQuizIdAndQuizType(long memberId, Long quizId, QuizType quizType);
+
+    @Query("SELECT new com.back.domain.member.quizhistory.dto.SolvedQuiz(qh.quizType, qh.quizId) FROM QuizHistory qh WHERE qh.member.id = :memberId")
+    List<SolvedQuiz> findSolvedQuizzesByMemberId(@Param("memberId") long memberId);
 }
@@ -0,0 +1,25 @@
+package com.back.domain.member.quizhistory.repository;
+
+import com.back.domain.member.quizhistory.entity.QuizSubmissionReservation;
+import com.back.domain.quiz.QuizType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface QuizSubmissionReservationRepository extends JpaRepository<QuizSubmissionReservation, Long> {
+
+    // 현재 DB 시각 + offsetMinutes(음수) 이전에 만든 예약 삭제 (기록 시각과 같은 DB 시계로 비교)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM quiz_submission_reservation WHERE created_at < TIMESTAMPADD(MINUTE, :offsetMinutes, LOCALTIMESTAMP)", nativeQuery = true)
+    int deleteCreatedBefore(@Param("offsetMinutes") long offsetMinutes);
+
+    // 접수하지 못한 제출의 예약 삭제. 요청 트랜잭션의 커밋 이후(afterCommit)에도 호출되므로 새 트랜잭션에서 실행
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("DELETE FROM QuizSubmissionReservation r WHERE r.memberId = :memberId AND r.quizType = :quizType AND r.quizId = :quizId")
+    int deleteReservation(@Param("memberId") long memberId, @Param("quizType") QuizType quizType, @Param("quizId") Long quizId);
+}
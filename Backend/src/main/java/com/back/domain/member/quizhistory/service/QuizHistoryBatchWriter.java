@@ -0,0 +1,74 @@
+package com.back.domain.member.quizhistory.service;
+
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.member.quizhistory.dto.PendingQuizHistory;
+import com.back.domain.member.quizhistory.entity.QuizHistory;
+import com.back.domain.member.quizhistory.repository.QuizHistoryRepository;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * QuizHistoryWriteBehind 가 모은 풀이 기록을 한 트랜잭션에서 DB 에 반영합니다.
+ * 풀이 기록은 시퀀스 ID 로 persist 한 뒤 한 번에 flush 해 JDBC 배치 INSERT 로 넣고 (hibernate.jdbc.batch_size),
+ * 경험치는 회원별로 합산해 회원당 UPDATE 한 번으로 더합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizHistoryBatchWriter {
+    private final QuizHistoryRepository quizHistoryRepository;
+    private final MemberRepository memberRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // 하나라도 실패(다른 노드에서 먼저 저장된 중복 등)하면 전체가 롤백되므로, 호출한 쪽에서 writeOne 으로 한 건씩 다시 시도
+    @Transactional
+    public void writeBatch(List<PendingQuizHistory> histories) {
+        List<QuizHistory> entities = histories.stream()
+                .map(history -> QuizHistory.builder()
+                        .member(memberRepository.getReferenceById(history.memberId()))
+                        .quizType(history.quizType())
+                        .quizId(history.quizId())
+                        .answer(history.answer())
+                        .isCorrect(history.isCorrect())
+                        .gainExp(history.gainExp())
+                        .createdDate(history.createdDate())
+                        .build())
+                .toList();
+        quizHistoryRepository.saveAll(entities);
+        quizHistoryRepository.flush(); // 중복 등 제약 위반을 여기서 DataIntegrityViolationException 으로 드러냄
+        applyExp(histories);
+    }
+
+    /**
+     * 한 건을 반영합니다. 이미 같은 풀이 기록이 있으면 (로그 재처리, 다른 노드의 중복 제출) 경험치도 더하지 않고 건너뜁니다.
+     *
+     * @return 새로 저장했으면 true
+     */
+    @Transactional
+    public boolean writeOne(PendingQuizHistory history) {
+        if (quizHistoryRepository.existsByMemberIdAndQuizIdAndQuizType(history.memberId(), history.quizId(), history.quizType())) {
+            return false;
+        }
+        writeBatch(List.of(history));
+        return true;
+    }
+
+    private void applyExp(List<PendingQuizHistory> histories) {
+        Map<Long, Integer> gainByMember = histories.stream()
+                .collect(Collectors.groupingBy(PendingQuizHistory::memberId, Collectors.summingInt(PendingQuizHistory::gainExp)));
+
+        gainByMember.forEach((memberId, gainExp) -> {
+            if (gainExp > 0) {
+                memberRepository.addExp(memberId, gainExp);
+                cacheInvalidationBus.publish(CacheTopic.MEMBER, memberId); // 경험치 순위표 갱신
+            }
+            cacheInvalidationBus.publish(CacheTopic.QUIZ_HISTORY, memberId); // 푼 퀴즈 캐시 갱신
+        });
+    }
+}
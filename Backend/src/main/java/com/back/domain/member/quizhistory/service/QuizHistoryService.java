@@ -1,24 +1,30 @@
 package com.back.domain.member.quizhistory.service;
 
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.quizhistory.dto.PendingQuizHistory;
 import com.back.domain.member.quizhistory.dto.QuizHistoryDto;
 import com.back.domain.member.quizhistory.entity.QuizHistory;
 import com.back.domain.member.quizhistory.repository.QuizHistoryRepository;
 import com.back.domain.quiz.QuizType;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class QuizHistoryService {
 
     private final QuizHistoryRepository quizHistoryRepository;
+    private final SolvedQuizCache solvedQuizCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final QuizHistoryWriteBehind quizHistoryWriteBehind;
 
     @Transactional(readOnly = true)
     public List<QuizHistoryDto> getQuizHistoriesByMember(Member actor) {
@@ -32,9 +38,69 @@ public class QuizHistoryService {
                 .toList();
     }
 
+    // 회원이 해당 퀴즈를 풀었으면 풀이 기록을 반환 (풀지 않은 퀴즈는 DB 조회 없이 바로 empty, 아직 DB 에 반영 전인 기록도 포함)
+    @Transactional(readOnly = true)
+    public Optional<QuizHistory> findHistory(Member actor, Long quizId, QuizType quizType) {
+        Optional<PendingQuizHistory> pending = quizHistoryWriteBehind.findPending(actor.getId(), quizType, quizId);
+        if (pending.isPresent()) {
+            return pending.map(history -> toQuizHistory(actor, history));
+        }
+        if (!solvedQuizCache.isSolved(actor.getId(), quizType, quizId)) {
+            return Optional.empty();
+        }
+        return quizHistoryRepository.findByMemberAndQuizIdAndQuizType(actor, quizId, quizType);
+    }
+
+    // 풀이 기록이 하나라도 있는 퀴즈 ID (아직 DB 에 반영 전인 기록 포함)
+    public Set<Long> filterSolved(Member actor, QuizType quizType, Collection<Long> quizIds) {
+        return quizIds.stream()
+                .filter(quizId -> solvedQuizCache.isSolved(actor.getId(), quizType, quizId)
+                        || quizHistoryWriteBehind.findPending(actor.getId(), quizType, quizId).isPresent())
+                .collect(Collectors.toSet());
+    }
+
+    // 퀴즈 ID 별 풀이 기록 (푼 퀴즈만 포함, 아직 DB 에 반영 전인 기록 포함)
+    @Transactional(readOnly = true)
+    public Map<Long, QuizHistory> findHistories(Member actor, QuizType quizType, Collection<Long> quizIds) {
+        Set<Long> solvedIds = filterSolved(actor, quizType, quizIds);
+        if (solvedIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, QuizHistory> histories = new HashMap<>();
+        for (Long quizId : solvedIds) {
+            quizHistoryWriteBehind.findPending(actor.getId(), quizType, quizId)
+                    .ifPresent(history -> histories.put(quizId, toQuizHistory(actor, history)));
+        }
+        Set<Long> savedIds = new HashSet<>(solvedIds);
+        savedIds.removeAll(histories.keySet());
+        if (!savedIds.isEmpty()) {
+            quizHistoryRepository.findByMemberAndQuizTypeAndQuizIdIn(actor, quizType, savedIds)
+                    .forEach(history -> histories.put(history.getQuizId(), history));
+        }
+        return histories;
+    }
+
+    // 저장 전인 기록을 응답용으로 변환 (영속화하지 않음)
+    private QuizHistory toQuizHistory(Member actor, PendingQuizHistory history) {
+        return QuizHistory.builder()
+                .member(actor)
+                .quizId(history.quizId())
+                .quizType(history.quizType())
+                .answer(history.answer())
+                .isCorrect(history.isCorrect())
+                .gainExp(history.gainExp())
+                .createdDate(history.createdDate())
+                .build();
+    }
+
     @Transactional
     public void save(Member actor, Long id,QuizType quizType, String answer, boolean isCorrect, int gainExp) {
 
+        if (solvedQuizCache.isSolved(actor.getId(), quizType, id)) {
+            throw new ServiceException(400, "이미 푼 문제입니다.");
+        }
+
         QuizHistory quizHistory = QuizHistory.builder()
                 .member(actor)
                 .quizId(id)
@@ -46,9 +112,10 @@ public class QuizHistoryService {
 
         // 퀴즈 히스토리 저장
         try {
-            quizHistoryRepository.save(quizHistory);
+            quizHistoryRepository.saveAndFlush(quizHistory); // 시퀀스 ID 라 INSERT 가 flush 까지 미뤄지므로 유니크 제약 위반을 여기서 확인
         } catch (DataIntegrityViolationException e) {
             throw new ServiceException(400, "이미 푼 문제입니다.");
         }
+        cacheInvalidationBus.publish(CacheTopic.QUIZ_HISTORY, actor.getId());
     }
 }
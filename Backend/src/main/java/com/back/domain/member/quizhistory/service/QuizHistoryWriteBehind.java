@@ -0,0 +1,359 @@
+package com.back.domain.member.quizhistory.service;
+
+import com.back.domain.member.quizhistory.dto.PendingQuizHistory;
+import com.back.domain.member.quizhistory.entity.QuizSubmissionReservation;
+import com.back.domain.member.quizhistory.repository.QuizSubmissionReservationRepository;
+import com.back.domain.quiz.QuizType;
+import com.back.global.exception.ServiceException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 풀이 기록을 모아서 저장하는 write-behind 버퍼입니다. 오늘의 퀴즈 공개 직후처럼 제출이 몰릴 때 한 건씩 INSERT 하지 않도록 합니다.
+ * - 제출은 두 단계입니다. reserve 가 중복 제출을 바로 거절하고, 요청 트랜잭션이 커밋되어 DB 커넥션을 돌려준 뒤 enqueue 가 버퍼에 넣습니다.
+ *   이미 DB 에 있는 기록은 SolvedQuizCache, 이 노드에서 저장 전인 기록은 pending 으로 먼저 확인하고,
+ *   다른 노드에서 저장 전인 기록은 요청 트랜잭션에서 quiz_submission_reservation 에 INSERT 해 유니크 제약으로 확인합니다.
+ *   (요청이 롤백되면 예약도 함께 롤백되며, reservation-retention 이 지나 DB 에 반영된 뒤의 예약은 주기적으로 삭제합니다)
+ *   저장 전인 기록은 findPending 으로 조회할 수 있어, 풀이 여부 조회가 반영 전에도 푼 문제로 답합니다.
+ * - 접수한 기록은 로컬 로그 파일에 추가하고 fsync 한 뒤 응답하므로, 저장 전에 서버가 종료되어도 다음 시작 때 로그를 다시 반영합니다.
+ *   (재반영은 이미 저장된 기록을 건너뛰므로 여러 번 실행되어도 안전합니다)
+ * - 별도 스레드가 버퍼에서 최대 batchSize 건씩 꺼내 QuizHistoryBatchWriter 로 한 트랜잭션에 저장합니다.
+ *   로그는 버퍼가 비면 비우고, 제출이 계속 이어져 비지 않더라도 반영된 앞부분이 compactBytes 를 넘으면 남은 부분만 새 파일로 옮깁니다.
+ * - 버퍼는 capacity 건까지 받으며, 가득 차면 잠시 기다린 뒤 503 으로 거절합니다.
+ * - 빈 생성 직후 로그 재반영을 마치고 바로 접수를 시작하므로, 웹 서버가 요청을 받기 시작할 때는 이미 제출을 받을 수 있습니다.
+ * quiz.write-behind.enabled=false 이면 사용하지 않고, QuizSubmissionService 가 요청 트랜잭션에서 바로 저장합니다.
+ */
+@Slf4j
+@Component
+public class QuizHistoryWriteBehind {
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final QuizHistoryBatchWriter batchWriter;
+    private final SolvedQuizCache solvedQuizCache;
+    private final QuizSubmissionReservationRepository reservationRepository;
+    private final boolean enabled;
+    private final Path logFile;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final long compactBytes;
+    private final Duration reservationRetention;
+
+    private final BlockingQueue<QueuedHistory> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final Map<PendingKey, PendingQuizHistory> pending = new ConcurrentHashMap<>();
+    private final Object logLock = new Object();
+    // 아래 세 필드는 logLock 으로 동기화. 오프셋은 시작 이후 로그에 쓴 누적 바이트 수 기준
+    private FileChannel logChannel;
+    private long logStart; // 현재 로그 파일 첫 바이트의 오프셋 (앞부분을 정리할 때마다 증가)
+    private long logEnd; // 마지막으로 쓴 줄의 끝 오프셋
+    private volatile boolean running = false;
+    private Thread flusher;
+
+    // 버퍼의 한 건과 로그에서 그 줄이 끝나는 오프셋 (버퍼와 로그의 순서가 같으므로 반영된 마지막 건의 오프셋까지는 지워도 됨)
+    private record QueuedHistory(PendingQuizHistory history, long logEnd) {}
+
+    private record PendingKey(long memberId, QuizType quizType, Long quizId) {
+        static PendingKey of(PendingQuizHistory history) {
+            return new PendingKey(history.memberId(), history.quizType(), history.quizId());
+        }
+    }
+
+    public QuizHistoryWriteBehind(
+            QuizHistoryBatchWriter batchWriter,
+            SolvedQuizCache solvedQuizCache,
+            QuizSubmissionReservationRepository reservationRepository,
+            @Value("${quiz.write-behind.enabled:true}") boolean enabled,
+            @Value("${quiz.write-behind.log-file:./data/quiz-history.log}") String logFile,
+            @Value("${quiz.write-behind.batch-size:500}") int batchSize,
+            @Value("${quiz.write-behind.capacity:10000}") int capacity,
+            @Value("${quiz.write-behind.offer-timeout-ms:2000}") long offerTimeoutMs,
+            @Value("${quiz.write-behind.log-compact-bytes:1048576}") long compactBytes,
+            @Value("${quiz.write-behind.reservation-retention-minutes:60}") long reservationRetentionMinutes
+    ) {
+        this.batchWriter = batchWriter;
+        this.solvedQuizCache = solvedQuizCache;
+        this.reservationRepository = reservationRepository;
+        this.enabled = enabled;
+        this.logFile = Path.of(logFile);
+        this.batchSize = batchSize;
+        this.capacity = new Semaphore(capacity);
+        this.offerTimeout = Duration.ofMillis(offerTimeoutMs);
+        this.compactBytes = compactBytes;
+        this.reservationRetention = Duration.ofMinutes(reservationRetentionMinutes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 이전 실행에서 저장하지 못한 기록을 반영한 뒤 바로 접수와 저장 스레드 시작
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        replay();
+
+        synchronized (logLock) {
+            logChannel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            logChannel.truncate(0);
+            logStart = 0;
+            logEnd = 0;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "quizHistory-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 풀이 기록 접수를 예약합니다. 같은 문제의 중복 제출을 막기 위해 요청 트랜잭션 안에서 바로 호출합니다.
+     * 예약한 기록은 enqueue 로 접수하거나 cancel 로 취소해야 합니다.
+     *
+     * @throws ServiceException 이미 푼 문제(400)
+     */
+    public void reserve(PendingQuizHistory history) {
+        PendingKey key = PendingKey.of(history);
+        if (solvedQuizCache.isSolved(history.memberId(), history.quizType(), history.quizId())
+                || pending.putIfAbsent(key, history) != null) {
+            throw new ServiceException(400, "이미 푼 문제입니다.");
+        }
+
+        // 다른 노드에서 같은 문제를 제출해 아직 저장 전인지는 예약 테이블의 유니크 제약으로 확인
+        try {
+            reservationRepository.save(new QuizSubmissionReservation(history.memberId(), history.quizType(), history.quizId()));
+        } catch (DataIntegrityViolationException e) {
+            pending.remove(key, history);
+            throw new ServiceException(400, "이미 푼 문제입니다.");
+        } catch (RuntimeException e) {
+            pending.remove(key, history);
+            throw e;
+        }
+    }
+
+    /**
+     * 예약한 풀이 기록을 접수합니다. 로그 파일에 기록된 뒤 반환되며, DB 반영은 저장 스레드에서 이어집니다.
+     * 버퍼 자리를 기다리고 fsync 하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖(커밋 이후)에서 호출합니다.
+     * 실패하면 예약도 취소하고 예약 테이블에서 지워, 다시 제출할 수 있습니다.
+     *
+     * @throws ServiceException 버퍼가 가득 참(503)
+     */
+    public void enqueue(PendingQuizHistory history) {
+        try {
+            if (!running || !capacity.tryAcquire(offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                reject(history);
+                throw new ServiceException(503, "제출이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(history);
+            throw new ServiceException(503, "제출을 처리하지 못했습니다.");
+        }
+
+        // 로그 순서와 버퍼 순서를 같게 유지 (반영된 건의 오프셋까지는 로그에서 지워도 됨)
+        synchronized (logLock) {
+            try {
+                logEnd += logChannel.write(ByteBuffer.wrap((history.toLogLine() + "\n").getBytes(StandardCharsets.UTF_8)));
+                logChannel.force(false);
+            } catch (IOException e) {
+                capacity.release();
+                reject(history);
+                throw new UncheckedIOException("풀이 기록 로그를 쓰지 못했습니다.", e);
+            }
+            queue.add(new QueuedHistory(history, logEnd));
+        }
+    }
+
+    // 요청 트랜잭션이 롤백되는 등 접수하지 않을 예약을 취소
+    public void cancel(PendingQuizHistory history) {
+        pending.remove(PendingKey.of(history), history);
+    }
+
+    // 커밋 이후 접수하지 못한 제출의 예약을 지워 다시 제출할 수 있게 함 (실패해도 보관 기간이 지나면 삭제됨)
+    private void reject(PendingQuizHistory history) {
+        cancel(history);
+        try {
+            reservationRepository.deleteReservation(history.memberId(), history.quizType(), history.quizId());
+        } catch (RuntimeException e) {
+            log.warn("풀이 기록 예약 삭제 실패 - {}", history, e);
+        }
+    }
+
+    // 보관 기간이 지난 예약 삭제 (그때는 풀이 기록이 DB 에 반영되어 SolvedQuizCache 와 유니크 제약으로 중복을 막음)
+    @Scheduled(fixedDelayString = "${quiz.write-behind.reservation-cleanup-interval-ms:600000}")
+    public void purgeReservations() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = reservationRepository.deleteCreatedBefore(-reservationRetention.toMinutes());
+        if (deleted > 0) {
+            log.debug("풀이 기록 예약 {}건 삭제", deleted);
+        }
+    }
+
+    // 접수되었지만 아직 DB 에 반영되지 않은 풀이 기록
+    public Optional<PendingQuizHistory> findPending(long memberId, QuizType quizType, Long quizId) {
+        return Optional.ofNullable(pending.get(new PendingKey(memberId, quizType, quizId)));
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedHistory first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<QueuedHistory> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                flush(batch.stream().map(QueuedHistory::history).toList());
+                releaseLog(batch.getLast().logEnd());
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 기록은 로그에 있으므로 다음 시작 때 반영
+                return;
+            }
+        }
+    }
+
+    private void flush(List<PendingQuizHistory> batch) throws InterruptedException {
+        while (true) {
+            try {
+                batchWriter.writeBatch(batch);
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드에서 먼저 저장된 중복 제출 등 - 한 건씩 반영하고 실패한 기록만 버림
+                batch.forEach(this::writeOneOrDrop);
+                break;
+            } catch (Exception e) {
+                // DB 장애 등 - 버리지 않고 다시 시도 (기록은 로그에도 남아 있음)
+                log.error("풀이 기록 {}건 저장 실패, {}초 후 재시도", batch.size(), RETRY_DELAY.toSeconds(), e);
+                Thread.sleep(RETRY_DELAY.toMillis());
+            }
+        }
+
+        batch.forEach(this::cancel);
+        capacity.release(batch.size());
+    }
+
+    /**
+     * flushedEnd 오프셋까지 반영된 로그를 정리합니다.
+     * 버퍼가 비었으면 파일을 비우고, 아니면 반영된 앞부분이 compactBytes 를 넘을 때 남은 부분만 새 파일에 옮겨 교체합니다.
+     * 정리에 실패해도 반영된 기록이 남을 뿐이고, 재반영 시 건너뛰므로 안전합니다.
+     */
+    private void releaseLog(long flushedEnd) {
+        synchronized (logLock) {
+            try {
+                if (flushedEnd == logEnd) {
+                    logChannel.truncate(0);
+                    logStart = logEnd;
+                } else if (flushedEnd - logStart >= compactBytes) {
+                    compactLog(flushedEnd);
+                }
+            } catch (IOException e) {
+                log.warn("풀이 기록 로그 정리 실패", e);
+            }
+        }
+    }
+
+    // logLock 안에서 호출
+    private void compactLog(long flushedEnd) throws IOException {
+        Path tempFile = logFile.resolveSibling(logFile.getFileName() + ".tmp");
+        try (FileChannel source = FileChannel.open(logFile, StandardOpenOption.READ);
+             FileChannel temp = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = flushedEnd - logStart;
+            long remaining = logEnd - flushedEnd;
+            while (remaining > 0) {
+                long copied = source.transferTo(position, remaining, temp);
+                position += copied;
+                remaining -= copied;
+            }
+            temp.force(true);
+        }
+        Files.move(tempFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        logChannel.close();
+        logChannel = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        logStart = flushedEnd;
+        log.debug("풀이 기록 로그 정리 - 남은 {}바이트", logEnd - logStart);
+    }
+
+    private void writeOneOrDrop(PendingQuizHistory history) {
+        try {
+            if (!batchWriter.writeOne(history)) {
+                log.info("이미 저장된 풀이 기록 건너뜀 - {}", history);
+            }
+        } catch (Exception e) {
+            log.warn("풀이 기록 저장 실패, 버림 - {}", history, e);
+            reject(history);
+        }
+    }
+
+    private void replay() throws IOException {
+        if (!Files.exists(logFile)) {
+            return;
+        }
+
+        int replayed = 0;
+        for (String line : Files.readAllLines(logFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            PendingQuizHistory history;
+            try {
+                history = PendingQuizHistory.fromLogLine(line);
+            } catch (RuntimeException e) {
+                log.warn("풀이 기록 로그 줄을 읽지 못해 건너뜀 (기록 중 종료된 마지막 줄일 수 있음): {}", line);
+                continue;
+            }
+            writeOneOrDrop(history);
+            replayed++;
+        }
+        log.info("풀이 기록 로그 {}건 재처리 완료", replayed);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(Duration.ofSeconds(10).toMillis());
+            flusher.interrupt();
+        }
+        synchronized (logLock) {
+            if (logChannel != null) {
+                try {
+                    logChannel.close();
+                } catch (IOException e) {
+                    log.warn("풀이 기록 로그 닫기 실패", e);
+                }
+            }
+        }
+    }
+
+}
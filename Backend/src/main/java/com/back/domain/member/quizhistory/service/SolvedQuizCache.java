@@ -0,0 +1,87 @@
+package com.back.domain.member.quizhistory.service;
+
+import com.back.domain.member.quizhistory.dto.SolvedQuiz;
+import com.back.domain.member.quizhistory.repository.QuizHistoryRepository;
+import com.back.domain.quiz.QuizType;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 회원별로 푼 퀴즈 (퀴즈 타입, 퀴즈 ID) 집합을 메모리에 보관하는 캐시입니다.
+ * 상세/팩트/오늘의 퀴즈 조회 시 "이미 푼 문제인지"를 DB 조회 없이 확인하고, 푼 문제만 풀이 기록을 단건 조회합니다.
+ * - 최근 조회한 maxMembers 명까지만 보관합니다 (LRU).
+ * - 풀이 기록이 저장되면 QUIZ_HISTORY 토픽으로 모든 노드에서 해당 회원 항목을 지우고, 다음 조회 때 다시 읽습니다.
+ * 조회 중 무효화가 일어나면 방금 읽은 (이전) 값은 캐시에 넣지 않습니다.
+ */
+@Component
+public class SolvedQuizCache {
+    private final QuizHistoryRepository quizHistoryRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Map<Long, Set<SolvedQuiz>> byMember; // this 로 동기화
+    private long generation = 0; // invalidate 횟수, this 로 동기화
+
+    public SolvedQuizCache(
+            QuizHistoryRepository quizHistoryRepository,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${quiz.solved-cache.max-members:10000}") int maxMembers
+    ) {
+        this.quizHistoryRepository = quizHistoryRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.byMember = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Set<SolvedQuiz>> eldest) {
+                return size() > maxMembers;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheTopic.QUIZ_HISTORY, key -> {
+            if (key == null) {
+                invalidateAll();
+            } else {
+                invalidate(Long.parseLong(key));
+            }
+        });
+    }
+
+    public boolean isSolved(long memberId, QuizType quizType, Long quizId) {
+        return get(memberId).contains(new SolvedQuiz(quizType, quizId));
+    }
+
+    private Set<SolvedQuiz> get(long memberId) {
+        long loadingGeneration;
+        synchronized (this) {
+            Set<SolvedQuiz> cached = byMember.get(memberId);
+            if (cached != null) {
+                return cached;
+            }
+            loadingGeneration = generation;
+        }
+
+        Set<SolvedQuiz> loaded = Set.copyOf(quizHistoryRepository.findSolvedQuizzesByMemberId(memberId));
+
+        synchronized (this) {
+            if (generation == loadingGeneration) {
+                byMember.put(memberId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate(long memberId) {
+        generation++;
+        byMember.remove(memberId);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        byMember.clear();
+    }
+}
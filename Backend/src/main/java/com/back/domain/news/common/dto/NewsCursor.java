@@ -0,0 +1,38 @@
+package com.back.domain.news.common.dto;
+
+import com.back.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 페이지네이션 위치 (created_date, id). 클라이언트에는 Base64 문자열로만 노출
+public record NewsCursor(
+        LocalDateTime createdDate,
+        Long id
+) {
+    // 첫 페이지: 어떤 뉴스보다도 뒤에 있는 위치
+    public static final NewsCursor FIRST = new NewsCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static NewsCursor of(LocalDateTime createdDate, Long id) {
+        return new NewsCursor(createdDate, id);
+    }
+
+    public String encode() {
+        String raw = createdDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NewsCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new NewsCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new ServiceException(400, "잘못된 커서입니다: " + cursor);
+        }
+    }
+}
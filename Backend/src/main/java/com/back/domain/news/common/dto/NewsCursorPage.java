@@ -0,0 +1,16 @@
+package com.back.domain.news.common.dto;
+
+import java.util.List;
+
+// 커서 기반 뉴스 목록 응답. totalElements 는 요청한 경우에만 채워짐 (기본은 COUNT 쿼리 생략)
+public record NewsCursorPage<T>(
+        List<T> content,
+        String nextCursor,   // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+        boolean hasNext,
+        int size,
+        Long totalElements
+) {
+    public static <T> NewsCursorPage<T> of(List<T> content, String nextCursor, int size, Long totalElements) {
+        return new NewsCursorPage<>(content, nextCursor, nextCursor != null, size, totalElements);
+    }
+}
@@ -0,0 +1,75 @@
+package com.back.domain.news.common.entity;
+
+import com.back.domain.news.common.enums.CrawlStatus;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// 네이버 뉴스 URL 별 크롤링 결과 캐시 (파싱 결과는 gzip 압축된 JSON 으로 저장)
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_crawl_cache_fetched_at", columnList = "fetchedAt"))
+public class CrawlCache {
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 512)
+    private String url;
+
+    @Enumerated(EnumType.STRING)
+    private CrawlStatus status;
+
+    @Lob
+    private byte[] compressedDetail; // PARSED 일 때만 저장
+
+    private String etag;
+    private String lastModified;
+
+    private LocalDateTime fetchedAt; // 마지막으로 네트워크에서 확인한 시간
+    private LocalDateTime expiresAt; // 이 시간 전까지는 네트워크 요청 없이 캐시 사용
+
+    @Builder
+    public CrawlCache(String url) {
+        this.url = url;
+    }
+
+    public void markParsed(byte[] compressedDetail, String etag, String lastModified, LocalDateTime expiresAt) {
+        this.status = CrawlStatus.PARSED;
+        this.compressedDetail = compressedDetail;
+        update(etag, lastModified, expiresAt);
+    }
+
+    public void markUnparseable(String etag, String lastModified, LocalDateTime expiresAt) {
+        this.status = CrawlStatus.UNPARSEABLE;
+        this.compressedDetail = null;
+        update(etag, lastModified, expiresAt);
+    }
+
+    // 304 Not Modified 응답으로 기존 내용이 유효함을 확인한 경우
+    public void revalidate(LocalDateTime expiresAt) {
+        this.fetchedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isFresh() {
+        return expiresAt != null && expiresAt.isAfter(LocalDateTime.now());
+    }
+
+    public boolean isParsed() {
+        return status == CrawlStatus.PARSED;
+    }
+
+    private void update(String etag, String lastModified, LocalDateTime expiresAt) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.fetchedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+}
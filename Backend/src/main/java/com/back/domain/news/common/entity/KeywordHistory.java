@@ -16,9 +16,11 @@ import static jakarta.persistence.GenerationType.*;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_keyword_history_used_date", columnList = "usedDate, keyword"))
 public class KeywordHistory {
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "keyword_history_seq_gen")
+    @SequenceGenerator(name = "keyword_history_seq_gen", sequenceName = "keyword_history_seq", allocationSize = 50)
     private Long id;
 
     private String keyword;
@@ -0,0 +1,6 @@
+package com.back.domain.news.common.enums;
+
+public enum CrawlStatus {
+    PARSED,      // 본문/이미지/기자/언론사 추출 성공
+    UNPARSEABLE  // 필수 요소가 없어 파싱 실패 (네거티브 캐시)
+}
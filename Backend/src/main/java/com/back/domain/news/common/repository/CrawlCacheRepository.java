@@ -0,0 +1,23 @@
+package com.back.domain.news.common.repository;
+
+import com.back.domain.news.common.entity.CrawlCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CrawlCacheRepository extends JpaRepository<CrawlCache, Long> {
+
+    Optional<CrawlCache> findByUrl(String url);
+
+    List<CrawlCache> findByUrlIn(Collection<String> urls);
+
+    @Modifying
+    @Query("DELETE FROM CrawlCache cc WHERE cc.fetchedAt < :cutoff")
+    int deleteByFetchedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
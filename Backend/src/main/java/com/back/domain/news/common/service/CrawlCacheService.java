@@ -0,0 +1,119 @@
+package com.back.domain.news.common.service;
+
+import com.back.domain.news.common.dto.NewsDetailDto;
+import com.back.domain.news.common.entity.CrawlCache;
+import com.back.domain.news.common.repository.CrawlCacheRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 네이버 뉴스 크롤링 결과를 URL 단위로 DB 에 저장하는 캐시입니다.
+ * - 파싱에 성공한 URL 은 ttl 동안 네트워크 요청 없이 저장된 결과를 사용합니다.
+ * - 파싱에 실패한 URL 은 negative-ttl 동안 다시 요청하지 않습니다.
+ * - 만료된 항목은 저장된 ETag/Last-Modified 로 조건부 요청을 보내 변경 여부를 확인합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlCacheService {
+    private final CrawlCacheRepository crawlCacheRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${naver.crawling.cache.ttl-hours:24}")
+    private int ttlHours;
+
+    @Value("${naver.crawling.cache.negative-ttl-hours:6}")
+    private int negativeTtlHours;
+
+    @Value("${naver.crawling.cache.retention-days:7}")
+    private int retentionDays;
+
+    @Transactional(readOnly = true)
+    public Optional<CrawlCache> find(String url) {
+        return crawlCacheRepository.findByUrl(url);
+    }
+
+    // 크롤링 후보 전체의 캐시를 한 번의 조회로 가져옴 (URL → 캐시)
+    @Transactional(readOnly = true)
+    public Map<String, CrawlCache> findAll(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return Map.of();
+        }
+        return crawlCacheRepository.findByUrlIn(urls).stream()
+                .collect(Collectors.toMap(CrawlCache::getUrl, Function.identity()));
+    }
+
+    public NewsDetailDto decode(CrawlCache cache) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cache.getCompressedDetail()))) {
+            return objectMapper.readValue(in, NewsDetailDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("크롤링 캐시 복원 실패: " + cache.getUrl(), e);
+        }
+    }
+
+    @Transactional
+    public void saveParsed(String url, NewsDetailDto detail, String etag, String lastModified) {
+        CrawlCache cache = findOrCreate(url);
+        cache.markParsed(encode(detail), etag, lastModified, LocalDateTime.now().plusHours(ttlHours));
+    }
+
+    @Transactional
+    public void saveUnparseable(String url, String etag, String lastModified) {
+        CrawlCache cache = findOrCreate(url);
+        cache.markUnparseable(etag, lastModified, LocalDateTime.now().plusHours(negativeTtlHours));
+    }
+
+    // 304 응답을 받은 경우 기존 결과의 유효 기간만 연장
+    @Transactional
+    public void revalidate(CrawlCache cache) {
+        crawlCacheRepository.findById(cache.getId())
+                .ifPresent(saved -> saved.revalidate(LocalDateTime.now().plusHours(
+                        saved.isParsed() ? ttlHours : negativeTtlHours)));
+    }
+
+    @Scheduled(cron = "0 30 2 * * ?") // 매일 새벽 2시 30분에 실행
+    @Transactional
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        try {
+            int deletedCount = crawlCacheRepository.deleteByFetchedAtBefore(cutoff);
+            log.info("크롤링 캐시 정리 완료 - {}일 이전 항목 {}개 삭제", retentionDays, deletedCount);
+        } catch (Exception e) {
+            log.error("크롤링 캐시 정리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    private CrawlCache findOrCreate(String url) {
+        return crawlCacheRepository.findByUrl(url)
+                .orElseGet(() -> crawlCacheRepository.save(CrawlCache.builder().url(url).build()));
+    }
+
+    private byte[] encode(NewsDetailDto detail) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, detail);
+        } catch (IOException e) {
+            throw new UncheckedIOException("크롤링 캐시 압축 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+}
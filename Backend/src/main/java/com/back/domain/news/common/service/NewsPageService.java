@@ -1,5 +1,6 @@
 package com.back.domain.news.common.service;
 
+import com.back.domain.news.common.dto.NewsCursorPage;
 import com.back.domain.news.common.enums.NewsType;
 import com.back.global.rsData.RsData;
 import org.springframework.data.domain.Page;
@@ -37,6 +38,25 @@ public class NewsPageService {
         );
     }
 
+    public <T> RsData<NewsCursorPage<T>> getCursorNews(
+            NewsCursorPage<T> newsPage,
+            NewsType newsType,
+            boolean firstPage
+    ) {
+        if (firstPage && newsPage.content().isEmpty()) {
+            return RsData.of(404, String.format("%s 뉴스가 없습니다", newsType.getDescription()));
+        }
+
+        return RsData.of(
+                200,
+                String.format("%s 뉴스 %d건 조회%s",
+                        newsType,
+                        newsPage.content().size(),
+                        newsPage.hasNext() ? "" : " (마지막 페이지)"),
+                newsPage
+        );
+    }
+
     public <T> RsData<T> getSingleNews(
             Optional<T> news,
             NewsType newsType,
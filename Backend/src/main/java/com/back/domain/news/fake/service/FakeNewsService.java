@@ -8,15 +8,12 @@ import com.back.domain.news.real.entity.RealNews;
 import com.back.domain.news.real.repository.RealNewsRepository;
 import com.back.global.ai.AiService;
 import com.back.global.ai.processor.FakeNewsGeneratorProcessor;
-import com.back.global.rateLimiter.RateLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -25,7 +22,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -41,15 +37,10 @@ public class FakeNewsService {
     private final ObjectMapper objectMapper;
     private final FakeNewsRepository fakeNewsRepository;
     private final RealNewsRepository realNewsRepository;
-    private final RateLimiter rateLimiter;
 
     @PersistenceContext
     private EntityManager entityManager;
 
-    @Autowired
-    @Qualifier("newsExecutor")
-    private Executor executor;
-
     @Async("newsExecutor")
     public CompletableFuture<List<FakeNewsDto>> generateFakeNewsBatch(List<RealNewsDto> realNewsDtos) {
         if (realNewsDtos == null || realNewsDtos.isEmpty()) {
@@ -61,22 +52,21 @@ public class FakeNewsService {
 
         // 모든 뉴스를 비동기로 처리
         List<CompletableFuture<FakeNewsDto>> futures = realNewsDtos.stream()
-                .map(realNewsDto -> supplyAsync(() -> {
-                    try {
-                        rateLimiter.waitForRateLimit(); // Rate limiting은 여기서
-                        log.debug("가짜뉴스 생성 시작 - 실제뉴스 ID: {}", realNewsDto.id());
-
-                        FakeNewsGeneratorProcessor processor = new FakeNewsGeneratorProcessor(realNewsDto, objectMapper);
-                        FakeNewsDto result = aiService.process(processor);
-
-                        log.debug("가짜뉴스 생성 완료 - 실제뉴스 ID: {}", realNewsDto.id());
-                        return result;
-
-                    } catch (Exception e) {
-                        log.error("가짜뉴스 생성 실패 - 실제뉴스 ID: {}", realNewsDto.id(), e);
-                        return null;
-                    }
-                }, executor)) // ← executor 사용
+                .map(realNewsDto -> {
+                    log.debug("가짜뉴스 생성 요청 - 실제뉴스 ID: {}", realNewsDto.id());
+                    FakeNewsGeneratorProcessor processor = new FakeNewsGeneratorProcessor(realNewsDto, objectMapper);
+
+                    // AI 쿼터 대기와 응답 생성 중에는 스레드를 점유하지 않음 (스트리밍)
+                    return aiService.processStreamAsync(processor)
+                            .thenApply(result -> {
+                                log.debug("가짜뉴스 생성 완료 - 실제뉴스 ID: {}", realNewsDto.id());
+                                return result;
+                            })
+                            .exceptionally(throwable -> {
+                                log.error("가짜뉴스 생성 실패 - 실제뉴스 ID: {}", realNewsDto.id(), throwable);
+                                return null;
+                            });
+                })
                 .toList();
 
         // null 아닌 성공 결과 수집
@@ -4,6 +4,7 @@ import com.back.domain.news.common.enums.NewsCategory;
 import com.back.domain.news.common.enums.NewsType;
 import com.back.domain.news.common.service.NewsPageService;
 import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.dto.RealNewsSummaryDto;
 import com.back.domain.news.real.service.AdminNewsService;
 import com.back.domain.news.real.service.NewsDataService;
 import com.back.domain.news.real.service.RealNewsService;
@@ -42,7 +43,7 @@ public class AdminNewsController {
     // 오늘의 뉴스 설정용 뉴스 조회
     @GetMapping("/all")
     @Operation(summary = "전체 뉴스 조회 (관리자용)", description = "오늘의 뉴스를 포함한 모든 뉴스를 조회합니다")
-    public RsData<Page<RealNewsDto>> getAllRealNewsList(
+    public RsData<Page<RealNewsSummaryDto>> getAllRealNewsList(
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
             @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기 (1~100)", example = "10")
@@ -58,7 +59,7 @@ public class AdminNewsController {
         Sort sortBy = Sort.by(sortDirection, "originCreatedDate");
 
         Pageable pageable = PageRequest.of(page-1, size, sortBy);
-        Page<RealNewsDto> realNewsPage = newsDataService.getAllRealNewsList(pageable);  // 새 서비스 메서드
+        Page<RealNewsSummaryDto> realNewsPage = newsDataService.getAllRealNewsList(pageable);  // 새 서비스 메서드
 
         return newsPageService.getPagedNews(realNewsPage, NewsType.REAL);
     }
@@ -184,7 +185,7 @@ public class AdminNewsController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping
-    public RsData<Page<RealNewsDto>> getRealNewsList(
+    public RsData<Page<RealNewsSummaryDto>> getRealNewsList(
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
             @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기 (1~100)", example = "10")
@@ -200,7 +201,7 @@ public class AdminNewsController {
         Sort sortBy = Sort.by(sortDirection, "originCreatedDate");
 
         Pageable pageable = PageRequest.of(page-1, size, sortBy);
-        Page<RealNewsDto> realNewsPage = realNewsService.getRealNewsList(pageable);
+        Page<RealNewsSummaryDto> realNewsPage = realNewsService.getRealNewsList(pageable);
 
         return newsPageService.getPagedNews(realNewsPage, NewsType.REAL);
     }
@@ -213,7 +214,7 @@ public class AdminNewsController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/search")
-    public RsData<Page<RealNewsDto>> searchRealNewsByTitle(
+    public RsData<Page<RealNewsSummaryDto>> searchRealNewsByTitle(
             @Parameter(description = "검색할 뉴스 제목", example = "경제")
             @RequestParam String title,
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
@@ -235,7 +236,7 @@ public class AdminNewsController {
         Sort sortBy = Sort.by(sortDirection, "originCreatedDate");
 
         Pageable pageable = PageRequest.of(page-1, size, sortBy);
-        Page<RealNewsDto> RealNewsPage = realNewsService.searchRealNewsByTitle(title, pageable);
+        Page<RealNewsSummaryDto> RealNewsPage = realNewsService.searchRealNewsByTitle(title, pageable);
 
         return newsPageService.getPagedNews(RealNewsPage, NewsType.REAL);
     }
@@ -247,7 +248,7 @@ public class AdminNewsController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/category/{category}")
-    public RsData<Page<RealNewsDto>> getRealNewsByCategory(
+    public RsData<Page<RealNewsSummaryDto>> getRealNewsByCategory(
             @Parameter(description = "뉴스 카테고리", example = "ECONOMY",
                     schema = @io.swagger.v3.oas.annotations.media.Schema(
                             allowableValues = {"POLITICS", "ECONOMY", "IT", "CULTURE", "SOCIETY", "NOT_FILTERED"}))
@@ -276,7 +277,7 @@ public class AdminNewsController {
         Sort sortBy = Sort.by(sortDirection, "originCreatedDate");
 
         Pageable pageable = PageRequest.of(page-1, size, sortBy);
-        Page<RealNewsDto> realNewsPage = realNewsService.getAllRealNewsByCategory(newsCategory, pageable);
+        Page<RealNewsSummaryDto> realNewsPage = realNewsService.getAllRealNewsByCategory(newsCategory, pageable);
 
         return newsPageService.getPagedNews(realNewsPage, NewsType.REAL);
     }
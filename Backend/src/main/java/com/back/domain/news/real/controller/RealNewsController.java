@@ -1,9 +1,12 @@
 package com.back.domain.news.real.controller;
 
+import com.back.domain.news.common.dto.NewsCursorPage;
 import com.back.domain.news.common.enums.NewsCategory;
 import com.back.domain.news.common.enums.NewsType;
 import com.back.domain.news.common.service.NewsPageService;
 import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.dto.RealNewsSearchResultDto;
+import com.back.domain.news.real.dto.RealNewsSummaryDto;
 import com.back.domain.news.real.service.NewsDataService;
 import com.back.domain.news.real.service.RealNewsService;
 import com.back.global.rsData.RsData;
@@ -32,6 +35,7 @@ public class RealNewsController {
     private final NewsPageService newsPageService;
     private final NewsDataService newsDataService;
     private static final int OX_QUIZ_INDEX = 1;
+    private static final int MAX_SEARCH_RESULT_WINDOW = 10000; // 관련도 검색으로 조회할 수 있는 최대 결과 위치 (page * size)
 
     //단건조회
     @Operation(summary = "단건 뉴스 조회", description = "ID로 단건 뉴스를 조회합니다.")
@@ -91,7 +95,7 @@ public class RealNewsController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping
-    public RsData<Page<RealNewsDto>> getRealNewsList(
+    public RsData<Page<RealNewsSummaryDto>> getRealNewsList(
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
             @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기 (1~100)", example = "10")
@@ -105,7 +109,7 @@ public class RealNewsController {
 
         Pageable pageable = PageRequest.of(page-1, size);
 
-        Page<RealNewsDto> realNewsPage = realNewsService.getRealNewsListExcludingNth(pageable, OX_QUIZ_INDEX);
+        Page<RealNewsSummaryDto> realNewsPage = realNewsService.getRealNewsListExcludingNth(pageable, OX_QUIZ_INDEX);
 
         return newsPageService.getPagedNews(realNewsPage, NewsType.REAL);
     }
@@ -118,7 +122,7 @@ public class RealNewsController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/search")
-    public RsData<Page<RealNewsDto>> searchRealNewsByTitle(
+    public RsData<Page<RealNewsSummaryDto>> searchRealNewsByTitle(
             @Parameter(description = "검색할 뉴스 제목", example = "경제")
             @RequestParam String title,
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
@@ -137,11 +141,60 @@ public class RealNewsController {
         }
 
         Pageable pageable = PageRequest.of(page-1, size);
-        Page<RealNewsDto> RealNewsPage = realNewsService.searchRealNewsByTitleExcludingNth(title,pageable, OX_QUIZ_INDEX);
+        Page<RealNewsSummaryDto> RealNewsPage = realNewsService.searchRealNewsByTitleExcludingNth(title,pageable, OX_QUIZ_INDEX);
 
         return newsPageService.getPagedNews(RealNewsPage, NewsType.REAL);
     }
 
+    //다건조회(전문 검색)
+    @Operation(summary = "뉴스 전문 검색", description = "제목과 본문에서 검색어를 찾아 관련도 순으로 조회합니다. 일치한 부분은 <em> 으로 강조됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "뉴스 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어가 비어있거나 올바르지 않은 카테고리, 잘못된 페이지 파라미터 또는 조회 범위 초과"),
+            @ApiResponse(responseCode = "404", description = "검색 결과 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/search/relevance")
+    public RsData<Page<RealNewsSearchResultDto>> searchRealNewsByKeyword(
+            @Parameter(description = "검색어 (제목, 본문)", example = "금리 인상")
+            @RequestParam String keyword,
+            @Parameter(description = "뉴스 카테고리 (생략하면 전체)", example = "ECONOMY")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
+            @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return RsData.of(400, "검색어를 입력해주세요");
+        }
+
+        if (!isValidPageParam(page, size, "desc")) {
+            return RsData.of(400, "잘못된 페이지 파라미터입니다");
+        }
+
+        // 검색 엔진은 앞쪽 page * size 건을 모두 점수순으로 모은 뒤 잘라내므로, 조회 범위를 제한
+        if ((long) page * size > MAX_SEARCH_RESULT_WINDOW) {
+            return RsData.of(400, "검색 결과는 " + MAX_SEARCH_RESULT_WINDOW + "번째까지만 조회할 수 있습니다");
+        }
+
+        NewsCategory newsCategory = null;
+
+        if (category != null) {
+            try {
+                newsCategory = NewsCategory.valueOf(category.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return RsData.of(400, "올바르지 않은 카테고리입니다. 사용 가능한 카테고리: " +
+                        Arrays.toString(NewsCategory.values()));
+            }
+        }
+
+        Pageable pageable = PageRequest.of(page-1, size);
+        Page<RealNewsSearchResultDto> resultPage = realNewsService.searchRealNewsByKeywordExcludingNth(keyword.trim(), newsCategory, pageable, OX_QUIZ_INDEX);
+
+        return newsPageService.getPagedNews(resultPage, NewsType.REAL);
+    }
+
     @Operation(summary = "카테고리별 뉴스 조회", description = "카테고리별로 뉴스를 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "카테고리별 뉴스 조회 성공"),
@@ -149,7 +202,7 @@ public class RealNewsController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @GetMapping("/category/{category}")
-    public RsData<Page<RealNewsDto>> getRealNewsByCategory(
+    public RsData<Page<RealNewsSummaryDto>> getRealNewsByCategory(
             @Parameter(description = "뉴스 카테고리", example = "ECONOMY",
                     schema = @io.swagger.v3.oas.annotations.media.Schema(
                             allowableValues = {"POLITICS", "ECONOMY", "IT", "CULTURE", "SOCIETY"}))
@@ -175,15 +228,114 @@ public class RealNewsController {
         }
 
         Pageable pageable = PageRequest.of(page-1, size);
-        Page<RealNewsDto> realNewsPage = realNewsService.getRealNewsListByCategoryExcludingNth(newsCategory, pageable, OX_QUIZ_INDEX);
+        Page<RealNewsSummaryDto> realNewsPage = realNewsService.getRealNewsListByCategoryExcludingNth(newsCategory, pageable, OX_QUIZ_INDEX);
 
         return newsPageService.getPagedNews(realNewsPage, NewsType.REAL);
     }
 
+    // 커서 기반 다건 조회 (무한 스크롤용). 깊은 페이지도 일정한 속도로 조회되며, 전체 건수는 withTotal=true 일 때만 계산
+    @Operation(summary = "다건 뉴스 조회 (커서)", description = "커서를 이용해 최신순으로 다건 뉴스를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "뉴스 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기"),
+            @ApiResponse(responseCode = "404", description = "조회할 뉴스가 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/cursor")
+    public RsData<NewsCursorPage<RealNewsSummaryDto>> getRealNewsListByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 건수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        if (!isValidCursorSize(size)) {
+            return RsData.of(400, "잘못된 페이지 파라미터입니다");
+        }
+
+        NewsCursorPage<RealNewsSummaryDto> realNewsPage = realNewsService.getRealNewsListExcludingNth(cursor, size, withTotal, OX_QUIZ_INDEX);
+
+        return newsPageService.getCursorNews(realNewsPage, NewsType.REAL, cursor == null);
+    }
+
+    @Operation(summary = "뉴스 검색 (커서)", description = "제목으로 뉴스를 검색합니다. 커서를 이용해 최신순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "뉴스 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어가 비어있거나 잘못된 커서 또는 페이지 크기"),
+            @ApiResponse(responseCode = "404", description = "조회할 뉴스가 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/search/cursor")
+    public RsData<NewsCursorPage<RealNewsSummaryDto>> searchRealNewsByTitleByCursor(
+            @Parameter(description = "검색할 뉴스 제목", example = "경제")
+            @RequestParam String title,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 건수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        if (title == null || title.trim().isEmpty()) {
+            return RsData.of(400, "검색어를 입력해주세요");
+        }
+
+        if (!isValidCursorSize(size)) {
+            return RsData.of(400, "잘못된 페이지 파라미터입니다");
+        }
+
+        NewsCursorPage<RealNewsSummaryDto> realNewsPage = realNewsService.searchRealNewsByTitleExcludingNth(title, cursor, size, withTotal, OX_QUIZ_INDEX);
+
+        return newsPageService.getCursorNews(realNewsPage, NewsType.REAL, cursor == null);
+    }
+
+    @Operation(summary = "카테고리별 뉴스 조회 (커서)", description = "카테고리별로 뉴스를 조회합니다. 커서를 이용해 최신순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "카테고리별 뉴스 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 카테고리이거나 잘못된 커서 또는 페이지 크기"),
+            @ApiResponse(responseCode = "404", description = "조회할 뉴스가 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/category/{category}/cursor")
+    public RsData<NewsCursorPage<RealNewsSummaryDto>> getRealNewsByCategoryByCursor(
+            @Parameter(description = "뉴스 카테고리", example = "ECONOMY",
+                    schema = @io.swagger.v3.oas.annotations.media.Schema(
+                            allowableValues = {"POLITICS", "ECONOMY", "IT", "CULTURE", "SOCIETY"}))
+            @PathVariable String category,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 건수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        if (!isValidCursorSize(size)) {
+            return RsData.of(400, "잘못된 페이지 파라미터입니다");
+        }
+
+        NewsCategory newsCategory;
+
+        try {
+            newsCategory = NewsCategory.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return RsData.of(400, "올바르지 않은 카테고리입니다. 사용 가능한 카테고리: " +
+                    Arrays.toString(NewsCategory.values()));
+        }
+
+        NewsCursorPage<RealNewsSummaryDto> realNewsPage = realNewsService.getRealNewsListByCategoryExcludingNth(newsCategory, cursor, size, withTotal, OX_QUIZ_INDEX);
+
+        return newsPageService.getCursorNews(realNewsPage, NewsType.REAL, cursor == null);
+    }
+
     private boolean isValidPageParam(int page, int size, String direction) {
         return (direction.equals("asc") || direction.equals("desc"))
                 && page > 0
                 && size >= 1 && size <= 100;
     }
 
+    private boolean isValidCursorSize(int size) {
+        return size >= 1 && size <= 100;
+    }
+
 }
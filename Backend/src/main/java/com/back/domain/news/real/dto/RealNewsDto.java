@@ -1,6 +1,7 @@
 package com.back.domain.news.real.dto;
 
 import com.back.domain.news.common.enums.NewsCategory;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import java.time.LocalDateTime;
@@ -17,7 +18,8 @@ public record RealNewsDto(
         String mediaName,
         String journalist,
         String originalNewsUrl,
-        NewsCategory newsCategory
+        NewsCategory newsCategory,
+        @JsonIgnore Long contentFingerprint // AI 정제 전 원문 본문의 SimHash (유사 기사 중복 제거용, 모르면 null)
 ) {
     public static RealNewsDto of(
             Long id,
@@ -34,7 +36,27 @@ public record RealNewsDto(
             NewsCategory newsCategory
     ) {
         return new RealNewsDto(
-                id, title, content, description, link, imgUrl, originCreatedDate, createdDate, mediaName, journalist, originalNewsUrl, newsCategory
+                id, title, content, description, link, imgUrl, originCreatedDate, createdDate, mediaName, journalist, originalNewsUrl, newsCategory, null
+        );
+    }
+
+    public static RealNewsDto of(
+            Long id,
+            String title,
+            String content,
+            String description,
+            String link,
+            String imgUrl,
+            LocalDateTime originCreatedDate,
+            LocalDateTime createdDate,
+            String mediaName,
+            String journalist,
+            String originalNewsUrl,
+            NewsCategory newsCategory,
+            Long contentFingerprint
+    ) {
+        return new RealNewsDto(
+                id, title, content, description, link, imgUrl, originCreatedDate, createdDate, mediaName, journalist, originalNewsUrl, newsCategory, contentFingerprint
         );
     }
 
@@ -0,0 +1,20 @@
+package com.back.domain.news.real.dto;
+
+import com.back.domain.news.common.enums.NewsCategory;
+
+import java.time.LocalDateTime;
+
+// 전문 검색 결과. 하이라이트는 일치한 검색어를 <em> 으로 감싼 조각 (일치하지 않으면 원문 앞부분)
+public record RealNewsSearchResultDto(
+        Long id,
+        String title,
+        String titleHighlight,
+        String contentHighlight,
+        String description,
+        String imgUrl,
+        String mediaName,
+        LocalDateTime originCreatedDate,
+        NewsCategory newsCategory,
+        float score
+) {
+}
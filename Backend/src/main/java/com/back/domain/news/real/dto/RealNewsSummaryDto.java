@@ -0,0 +1,21 @@
+package com.back.domain.news.real.dto;
+
+import com.back.domain.news.common.enums.NewsCategory;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 뉴스 요약. 본문(content, @Lob)을 조회하지 않도록 JPQL 생성자 표현식으로 바로 생성
+public record RealNewsSummaryDto(
+        Long id,
+        String title,
+        String description,
+        String link,
+        String imgUrl,
+        LocalDateTime originCreatedDate,
+        LocalDateTime createdDate,
+        String mediaName,
+        String journalist,
+        String originalNewsUrl,
+        NewsCategory newsCategory
+) {
+}
@@ -18,15 +18,23 @@ import java.util.List;
 
 import static jakarta.persistence.CascadeType.ALL;
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_real_news_link", columnList = "link"),
+        @Index(name = "idx_real_news_title", columnList = "title"),
+        @Index(name = "idx_real_news_created_date", columnList = "createdDate, id"),
+        @Index(name = "idx_real_news_category_created_date", columnList = "newsCategory, createdDate, id"),
+        @Index(name = "idx_real_news_category_rank", columnList = "categoryRank")
+})
 public class RealNews {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "real_news_seq_gen")
+    @SequenceGenerator(name = "real_news_seq_gen", sequenceName = "real_news_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -56,6 +64,10 @@ public class RealNews {
     @Enumerated(EnumType.STRING)
     private NewsCategory newsCategory;
 
+    private Long contentFingerprint; // 본문 SimHash (유사 기사 중복 제거용)
+
+    private Integer categoryRank; // 카테고리 내 최신순 순위 (RealNewsRankService 가 상위 N개만 유지, 그 외는 null)
+
 
     @Column(updatable = false)
     private LocalDateTime createdDate; // 수동 관리
@@ -73,7 +85,8 @@ public class RealNews {
             String mediaName,
             String journalist,
             String originalNewsUrl,
-            NewsCategory newsCategory) {
+            NewsCategory newsCategory,
+            Long contentFingerprint) {
         this.title = title;
         this.content = content;
         this.description = description;
@@ -85,6 +98,7 @@ public class RealNews {
         this.journalist = journalist;
         this.originalNewsUrl = originalNewsUrl;
         this.newsCategory = newsCategory;
+        this.contentFingerprint = contentFingerprint;
     }
 
 }
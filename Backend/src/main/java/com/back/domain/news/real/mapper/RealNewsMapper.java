@@ -2,6 +2,7 @@ package com.back.domain.news.real.mapper;
 
 import com.back.domain.news.real.dto.RealNewsDto;
 import com.back.domain.news.real.entity.RealNews;
+import com.back.global.util.SimHash;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -28,6 +29,9 @@ public class RealNewsMapper {
                 .journalist(realNewsDto.journalist())
                 .originalNewsUrl(realNewsDto.originalNewsUrl())
                 .newsCategory(realNewsDto.newsCategory())
+                .contentFingerprint(realNewsDto.contentFingerprint() != null
+                        ? realNewsDto.contentFingerprint()
+                        : SimHash.fingerprint(realNewsDto.content())) // 원문 지문이 없는 경우(초기 데이터 등)에만 계산
                 .build();
     }
 
@@ -50,7 +54,8 @@ public class RealNewsMapper {
                 realNews.getMediaName(),
                 realNews.getJournalist(),
                 realNews.getOriginalNewsUrl(),
-                realNews.getNewsCategory()
+                realNews.getNewsCategory(),
+                realNews.getContentFingerprint()
         );
     }
 
@@ -1,146 +1,238 @@
 package com.back.domain.news.real.repository;
 
 import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsSummaryDto;
 import com.back.domain.news.real.entity.RealNews;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 
 public interface RealNewsRepository extends JpaRepository<RealNews, Long> {
-    Page<RealNews> findByTitleContaining(String title, Pageable pageable);
+    // 목록 조회용 요약 프로젝션 (content 컬럼 제외)
+    String SUMMARY_SELECT = """
+    SELECT new com.back.domain.news.real.dto.RealNewsSummaryDto(
+        r.id, r.title, r.description, r.link, r.imgUrl, r.originCreatedDate, r.createdDate,
+        r.mediaName, r.journalist, r.originalNewsUrl, r.newsCategory)
+    """;
+
+    // 관리자 목록 조회 (excludedId 가 null 이면 전체)
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE (:excludedId IS NULL OR r.id <> :excludedId)
+    """,
+            countQuery = "SELECT COUNT(r) FROM RealNews r WHERE (:excludedId IS NULL OR r.id <> :excludedId)")
+    Page<RealNewsSummaryDto> findSummaries(@Param("excludedId") Long excludedId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE r.title LIKE CONCAT('%', :title, '%')
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+    """,
+            countQuery = """
+    SELECT COUNT(r) FROM RealNews r
+    WHERE r.title LIKE CONCAT('%', :title, '%')
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+    """)
+    Page<RealNewsSummaryDto> findSummariesByTitle(
+            @Param("title") String title,
+            @Param("excludedId") Long excludedId,
+            Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE r.newsCategory = :category
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+    """,
+            countQuery = """
+    SELECT COUNT(r) FROM RealNews r
+    WHERE r.newsCategory = :category
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+    """)
+    Page<RealNewsSummaryDto> findSummariesByCategory(
+            @Param("category") NewsCategory category,
+            @Param("excludedId") Long excludedId,
+            Pageable pageable);
 
     boolean existsByTitle(String title);
 
-    Page<RealNews> findByNewsCategory(NewsCategory category, Pageable pageable);
+    boolean existsByLink(String url);
 
-    Page<RealNews> findByTitleContainingAndIdNot(String title, Long excludedId, Pageable pageable);
+    // 후보 링크/제목 중 이미 저장된 것만 한 번에 조회 (뉴스 수집 시 중복 제거용)
+    @Query("SELECT r.link FROM RealNews r WHERE r.link IN :links")
+    List<String> findExistingLinks(@Param("links") Collection<String> links);
 
-    Page<RealNews> findByIdNot(Long excludedId, Pageable pageable);
+    @Query("SELECT r.title FROM RealNews r WHERE r.title IN :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
 
-    Page<RealNews> findByNewsCategoryAndIdNot(NewsCategory category, Long excludedId, Pageable pageable);
+    // 검색 인덱스와 DB 를 맞출 때 사용 (기본 키 인덱스만 읽음)
+    @Query("SELECT r.id FROM RealNews r")
+    List<Long> findAllIds();
 
+    @Query("SELECT r.contentFingerprint FROM RealNews r WHERE r.createdDate >= :since AND r.contentFingerprint IS NOT NULL")
+    List<Long> findFingerprintsCreatedAfter(@Param("since") LocalDateTime since);
 
-    boolean existsByLink(String url);
 
     List<RealNews> findByCreatedDateBetween(LocalDateTime start, LocalDateTime end);
 
-    @Query(value = """
-    SELECT * FROM (
-        SELECT *,
-            ROW_NUMBER() OVER (PARTITION BY news_category ORDER BY created_date DESC) AS rn
-        FROM real_news
-        WHERE title LIKE CONCAT('%', :title, '%')
-          AND (:excludedId IS NULL OR id != :excludedId)
-    ) AS sub
-    WHERE rn != :excludedRank
-    ORDER BY created_date DESC
+    // 공개 조회 응답의 ETag 계산용
+    @Query("SELECT MAX(r.createdDate) FROM RealNews r")
+    Optional<LocalDateTime> findLatestCreatedDate();
+
+    // 카테고리 순위(category_rank)는 RealNewsRankService 가 저장/삭제 시 갱신
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE r.title LIKE CONCAT('%', :title, '%')
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    ORDER BY r.createdDate DESC, r.id DESC
     """,
             countQuery = """
-    SELECT COUNT(*) FROM (
-        SELECT ROW_NUMBER() OVER (PARTITION BY news_category ORDER BY created_date DESC) AS rn
-        FROM real_news
-        WHERE title LIKE CONCAT('%', :title, '%')
-          AND (:excludedId IS NULL OR id != :excludedId)
-    ) AS sub
-    WHERE rn != :excludedRank
-    """,
-            nativeQuery = true)
-    Page<RealNews> findByTitleExcludingNthCategoryRank(
+    SELECT COUNT(r) FROM RealNews r
+    WHERE r.title LIKE CONCAT('%', :title, '%')
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    """)
+    Page<RealNewsSummaryDto> findByTitleExcludingNthCategoryRank(
             @Param("title") String title,
             @Param("excludedId") Long excludedId,
             @Param("excludedRank") int excludedRank,
             Pageable pageable);
 
-    @Query(value = """
-    SELECT *
-    FROM (
-        SELECT *,
-               ROW_NUMBER() OVER (PARTITION BY news_category ORDER BY created_date DESC) AS rn
-        FROM real_news
-        WHERE (:excludedId IS NULL OR id != :excludedId)
-    ) AS sub
-    WHERE rn != :excludedRank
-    ORDER BY created_date DESC
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    ORDER BY r.createdDate DESC, r.id DESC
     """,
             countQuery = """
-    SELECT COUNT(*)
-    FROM (
-        SELECT ROW_NUMBER() OVER (PARTITION BY news_category ORDER BY created_date DESC) AS rn
-        FROM real_news
-        WHERE (:excludedId IS NULL OR id != :excludedId)
-    ) AS sub
-    WHERE rn != :excludedRank
-    """,
-            nativeQuery = true)
-    Page<RealNews> findAllExcludingNth(
+    SELECT COUNT(r) FROM RealNews r
+    WHERE (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    """)
+    Page<RealNewsSummaryDto> findAllExcludingNth(
             @Param("excludedId") Long excludedId,
             @Param("excludedRank") int excludedRank,
             Pageable pageable);
 
-
-    @Query(value = """
-    SELECT *
-    FROM (
-        SELECT *,
-               ROW_NUMBER() OVER (ORDER BY created_date DESC) AS rn
-        FROM real_news
-        WHERE news_category = :#{#category.name()}
-          AND (:excludedId IS NULL OR id != :excludedId)
-    ) AS sub
-    WHERE rn != :excludedRank
-    ORDER BY created_date DESC
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE r.newsCategory = :category
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    ORDER BY r.createdDate DESC, r.id DESC
     """,
             countQuery = """
-    SELECT COUNT(*)
-    FROM (
-        SELECT ROW_NUMBER() OVER (ORDER BY created_date DESC) AS rn
-        FROM real_news
-        WHERE news_category = :#{#category.name()}
-          AND (:excludedId IS NULL OR id != :excludedId)
-    ) AS sub
-    WHERE rn != :excludedRank
-    """,
-            nativeQuery = true)
-    Page<RealNews> findByCategoryExcludingNth(
+    SELECT COUNT(r) FROM RealNews r
+    WHERE r.newsCategory = :category
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    """)
+    Page<RealNewsSummaryDto> findByCategoryExcludingNth(
             @Param("category") NewsCategory category,
             @Param("excludedId") Long excludedId,
             @Param("excludedRank") int excludedRank,
             Pageable pageable);
 
-    @Query(value = """
-    SELECT *
-    FROM (
-        SELECT *,
-               ROW_NUMBER() OVER (PARTITION BY news_category ORDER BY created_date DESC) AS rn
-        FROM real_news
-    ) AS sub
-    WHERE rn = :targetRank
-    ORDER BY created_date DESC
-    """,
-            nativeQuery = true)
+    // 커서 페이지네이션: (createdDate, id) 가 커서보다 앞선(더 오래된) 뉴스부터 limit 개 조회, COUNT 쿼리 없음
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE (r.createdDate < :cursorDate OR (r.createdDate = :cursorDate AND r.id < :cursorId))
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    ORDER BY r.createdDate DESC, r.id DESC
+    """)
+    List<RealNewsSummaryDto> findAllExcludingNthAfter(
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("excludedId") Long excludedId,
+            @Param("excludedRank") int excludedRank,
+            Limit limit);
+
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE (r.createdDate < :cursorDate OR (r.createdDate = :cursorDate AND r.id < :cursorId))
+      AND r.title LIKE CONCAT('%', :title, '%')
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    ORDER BY r.createdDate DESC, r.id DESC
+    """)
+    List<RealNewsSummaryDto> findByTitleExcludingNthAfter(
+            @Param("title") String title,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("excludedId") Long excludedId,
+            @Param("excludedRank") int excludedRank,
+            Limit limit);
+
+    @Query(value = SUMMARY_SELECT + """
+    FROM RealNews r
+    WHERE r.newsCategory = :category
+      AND (r.createdDate < :cursorDate OR (r.createdDate = :cursorDate AND r.id < :cursorId))
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    ORDER BY r.createdDate DESC, r.id DESC
+    """)
+    List<RealNewsSummaryDto> findByCategoryExcludingNthAfter(
+            @Param("category") NewsCategory category,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            @Param("excludedId") Long excludedId,
+            @Param("excludedRank") int excludedRank,
+            Limit limit);
+
+    // 커서 목록에서 전체 건수를 요청한 경우에만 사용
+    @Query("""
+    SELECT COUNT(r) FROM RealNews r
+    WHERE (:title IS NULL OR r.title LIKE CONCAT('%', :title, '%'))
+      AND (:category IS NULL OR r.newsCategory = :category)
+      AND (:excludedId IS NULL OR r.id <> :excludedId)
+      AND (r.categoryRank IS NULL OR r.categoryRank <> :excludedRank)
+    """)
+    long countExcludingNth(
+            @Param("title") String title,
+            @Param("category") NewsCategory category,
+            @Param("excludedId") Long excludedId,
+            @Param("excludedRank") int excludedRank);
+
+    @Query("SELECT r.id FROM RealNews r WHERE r.categoryRank = :targetRank")
+    List<Long> findIdsByCategoryRank(@Param("targetRank") int targetRank);
+
+    @Query("SELECT r FROM RealNews r WHERE r.categoryRank = :targetRank ORDER BY r.createdDate DESC")
     List<RealNews> findNthRankByAllCategories(@Param("targetRank") int targetRank);
 
     // 특정 카테고리에서 N번째 순위 뉴스 조회
-    @Query(value = """
-    SELECT *
-    FROM (
-        SELECT *,
-               ROW_NUMBER() OVER (ORDER BY created_date DESC) AS rn
-        FROM real_news
-        WHERE news_category = :#{#category.name()}
-    ) AS sub
-    WHERE rn = :targetRank
-    """,
-            nativeQuery = true)
+    @Query("SELECT r FROM RealNews r WHERE r.newsCategory = :category AND r.categoryRank = :targetRank")
     Optional<RealNews> findNthRankByCategory(
             @Param("category") NewsCategory category,
             @Param("targetRank") int targetRank
     );
-}
 
+    // 카테고리 순위 갱신용: 카테고리별 최신 뉴스 ID (category 가 null 이면 카테고리 없는 뉴스)
+    @Query("""
+    SELECT r.id FROM RealNews r
+    WHERE (:category IS NULL AND r.newsCategory IS NULL) OR r.newsCategory = :category
+    ORDER BY r.createdDate DESC, r.id DESC
+    """)
+    List<Long> findLatestIdsByCategory(@Param("category") NewsCategory category, Pageable pageable);
+
+    @Modifying
+    @Query("""
+    UPDATE RealNews r SET r.categoryRank = NULL
+    WHERE ((:category IS NULL AND r.newsCategory IS NULL) OR r.newsCategory = :category)
+      AND r.categoryRank IS NOT NULL
+    """)
+    int clearCategoryRank(@Param("category") NewsCategory category);
+
+    @Modifying
+    @Query("UPDATE RealNews r SET r.categoryRank = :rank WHERE r.id = :id")
+    int updateCategoryRank(@Param("id") Long id, @Param("rank") int rank);
+}
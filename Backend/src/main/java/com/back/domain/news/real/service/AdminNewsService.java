@@ -1,22 +1,14 @@
 package com.back.domain.news.real.service;
 
-import com.back.domain.news.common.dto.AnalyzedNewsDto;
-import com.back.domain.news.common.dto.NaverNewsDto;
 import com.back.domain.news.common.service.KeywordGenerationService;
 import com.back.domain.news.real.dto.RealNewsDto;
-import com.back.domain.news.real.event.RealNewsCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
 @Slf4j
 @Service
@@ -25,14 +17,13 @@ public class AdminNewsService {
 
     private final NewsDataService newsDataService;
     private final KeywordGenerationService keywordGenerationService;
-    private final NewsAnalysisService newsAnalysisService;
+    private final DailyNewsPipeline dailyNewsPipeline;
     private final static List<String> STATIC_KEYWORD = Arrays.asList("속보", "긴급", "단독");
-    private final ApplicationEventPublisher publisher;
 
 
 
+    // 수집/크롤링/분석은 트랜잭션 밖에서 파이프라인으로 처리하고, DB 트랜잭션은 마지막 저장 단계에만 사용
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
-    @Transactional
     public void dailyNewsProcess(){
 
         List<String> keywords = keywordGenerationService.generateTodaysKeywords().getKeywords();
@@ -41,35 +32,13 @@ public class AdminNewsService {
         // 테스트시 앞줄 주석처리하고 밑줄 활성화
 //        List<String> newsKeywordsAfterAdd = List.of("AI","정치");
 
-        List<NaverNewsDto> newsMetaData = newsDataService.collectMetaDataFromNaver(newsKeywordsAfterAdd);
+        List<RealNewsDto> selectedNews = dailyNewsPipeline.run(newsKeywordsAfterAdd);
 
-        List<RealNewsDto> newsAfterCrwal = newsDataService.createRealNewsDtoByCrawl(newsMetaData);
-
-        List<AnalyzedNewsDto> newsAfterFilter = newsAnalysisService.filterAndScoreNews(newsAfterCrwal);
-
-        List<RealNewsDto> selectedNews = newsDataService.selectNewsByScore(newsAfterFilter);
-
-        List<RealNewsDto> savedNews = newsDataService.saveAllRealNews(selectedNews);
+        List<RealNewsDto> savedNews = newsDataService.saveDailyNews(selectedNews);
 
         if(savedNews.isEmpty()) {
             log.warn("저장된 뉴스가 없습니다. 오늘의 뉴스 수집이 실패했을 수 있습니다.");
-            return;
         }
-        newsDataService.setTodayNews(savedNews.getFirst().id());
-
-        List<Long> realNewsIds = savedNews.stream()
-                .map(RealNewsDto::id)
-                .filter(Objects::nonNull) // null 체크
-                .toList();
-
-        // 트랜잭션 커밋 이후에 이벤트 발행
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                publisher.publishEvent(new RealNewsCreatedEvent(realNewsIds));
-            }
-        });
-
     }
 
 }
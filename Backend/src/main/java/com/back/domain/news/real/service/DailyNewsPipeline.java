@@ -0,0 +1,169 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.common.dto.AnalyzedNewsDto;
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.global.exception.ServiceException;
+import com.back.global.util.SimHashIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 오늘의 뉴스 수집 파이프라인입니다.
+ * 메타데이터 수집 → 크롤링 → AI 분석 → 카테고리별 선정 단계를 제한된 크기의 큐로 연결해,
+ * 앞 단계가 모두 끝날 때까지 기다리지 않고 결과가 나오는 대로 다음 단계로 넘깁니다.
+ * - 키워드별 네이버 API 응답이 오는 즉시 해당 기사들의 크롤링을 시작합니다.
+ * - 크롤링된 기사 중 유사 기사를 제외하고, 토큰 예산만큼 모이면 바로 분석 배치를 요청합니다.
+ * - 분석 결과는 도착하는 대로 카테고리별 상위 기사 후보에 반영됩니다.
+ *
+ * 이 클래스는 DB 에 쓰지 않으며, 선정된 뉴스의 저장은 호출하는 쪽에서 한 번의 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyNewsPipeline {
+
+    private final NewsDataService newsDataService;
+    private final NewsAnalysisBatchService newsAnalysisBatchService;
+    private final NearDuplicateNewsService nearDuplicateNewsService;
+    private final NewsBatchPlanner newsBatchPlanner;
+
+    @Value("${news.pipeline.queue-capacity:32}") // 크롤링 → 분석 사이 큐 크기 (가득 차면 크롤링 스레드가 대기)
+    private int queueCapacity;
+
+    @Value("${news.pipeline.per-category:4}") // 카테고리별 선정 기사 수
+    private int perCategory;
+
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    /**
+     * 키워드로 뉴스를 수집, 크롤링, 분석하여 카테고리별 점수 상위 뉴스를 반환합니다.
+     *
+     * @param keywords 네이버 검색 키워드
+     * @return 카테고리별 점수 상위 perCategory 개의 뉴스 (아직 저장되지 않은 상태)
+     */
+    public List<RealNewsDto> run(List<String> keywords) {
+        BlockingQueue<RealNewsDto> crawledQueue = new ArrayBlockingQueue<>(queueCapacity);
+        Set<String> seenUrls = ConcurrentHashMap.newKeySet(); // 키워드 간 URL 중복 제거
+        CategoryTopSelector selector = new CategoryTopSelector(perCategory);
+        SimHashIndex fingerprints = nearDuplicateNewsService.newIndex(); // 최근 저장 기사 + 이번 수집 기사 지문
+
+        log.info("뉴스 파이프라인 시작: {} 개 키워드", keywords.size());
+
+        // 1~2단계: 키워드별 메타데이터 수집이 끝나는 대로 크롤링 시작
+        List<CompletableFuture<Void>> crawlFutures = keywords.stream()
+                .map(keyword -> newsDataService.fetchNews(keyword)
+                        .thenCompose(news -> {
+                            List<NaverNewsDto> newOnes = news.stream()
+                                    .filter(dto -> dto.link().contains("n.news.naver.com"))
+                                    .filter(dto -> seenUrls.add(dto.link()))
+                                    .toList();
+                            log.debug("키워드 '{}' 메타데이터 {}건 → 크롤링 대상 {}건", keyword, news.size(), newOnes.size());
+                            return newsDataService.crawlRealNewsDtos(newOnes, dto -> enqueue(crawledQueue, dto));
+                        })
+                        .exceptionally(throwable -> {
+                            log.error("키워드 '{}' 수집 실패", keyword, throwable);
+                            return null;
+                        }))
+                .toList();
+        CompletableFuture<Void> crawlDone = CompletableFuture.allOf(crawlFutures.toArray(new CompletableFuture[0]));
+
+        // 3~4단계: 크롤링된 기사를 배치로 묶어 즉시 분석하고, 결과는 도착하는 대로 선정 후보에 반영
+        List<CompletableFuture<Void>> analysisFutures = new ArrayList<>();
+        NewsBatchPlanner.Batcher batcher = newsBatchPlanner.newBatcher();
+        int crawledCount = 0;
+
+        try {
+            while (true) {
+                RealNewsDto crawled = crawledQueue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (crawled != null) {
+                    crawledCount++;
+                    // 이미 비슷한 기사가 있으면 분석하지 않음
+                    if (!nearDuplicateNewsService.accept(fingerprints, crawled)) {
+                        continue;
+                    }
+                    batcher.add(crawled)
+                            .ifPresent(batch -> analysisFutures.add(submitAnalysis(batch, selector)));
+                    continue;
+                }
+                // 모든 크롤링 콜백은 crawlDone 완료 전에 큐에 들어가므로, 완료 후 큐가 비어 있으면 끝
+                if (crawlDone.isDone() && crawledQueue.isEmpty()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            crawlDone.cancel(true);
+            throw new ServiceException(500, "뉴스 파이프라인이 중단되었습니다");
+        }
+
+        batcher.flush().ifPresent(batch -> analysisFutures.add(submitAnalysis(batch, selector)));
+
+        CompletableFuture.allOf(analysisFutures.toArray(new CompletableFuture[0])).join();
+
+        List<RealNewsDto> selected = selector.result();
+        log.info("뉴스 파이프라인 완료 - 크롤링 {}건, 분석 배치 {}개, 선정 {}건",
+                crawledCount, analysisFutures.size(), selected.size());
+        return selected;
+    }
+
+    private CompletableFuture<Void> submitAnalysis(List<RealNewsDto> batch, CategoryTopSelector selector) {
+        return newsAnalysisBatchService.processBatchAsync(batch)
+                .thenAccept(selector::offerAll)
+                .exceptionally(throwable -> {
+                    log.error("분석 배치 처리 실패", throwable);
+                    return null;
+                });
+    }
+
+    // 분석 단계가 밀리면 큐가 가득 차고, 크롤링 스레드가 여기서 대기하며 속도를 맞춤
+    private void enqueue(BlockingQueue<RealNewsDto> queue, RealNewsDto dto) {
+        try {
+            queue.put(dto);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("크롤링 결과 전달 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 카테고리별로 점수 상위 limit 개만 유지하는 선정기입니다.
+     * 분석 결과가 도착할 때마다 갱신되므로, 마지막 배치가 끝나면 별도의 정렬 없이 바로 결과를 얻을 수 있습니다.
+     */
+    private static class CategoryTopSelector {
+        private final int limit;
+        private final Map<NewsCategory, PriorityQueue<AnalyzedNewsDto>> topByCategory = new EnumMap<>(NewsCategory.class);
+
+        CategoryTopSelector(int limit) {
+            this.limit = limit;
+        }
+
+        synchronized void offerAll(List<AnalyzedNewsDto> analyzed) {
+            for (AnalyzedNewsDto news : analyzed) {
+                if (news.category() == null || news.score() == null) {
+                    continue; // 분석 결과가 불완전한 기사는 선정 대상에서 제외
+                }
+                // 점수가 가장 낮은 기사가 맨 앞에 오도록 해서, 초과 시 가장 낮은 기사를 제거
+                PriorityQueue<AnalyzedNewsDto> top = topByCategory.computeIfAbsent(news.category(),
+                        category -> new PriorityQueue<>(Comparator.comparing(AnalyzedNewsDto::score)));
+                top.offer(news);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        synchronized List<RealNewsDto> result() {
+            return topByCategory.values().stream()
+                    .flatMap(top -> top.stream().sorted(Comparator.comparing(AnalyzedNewsDto::score).reversed()))
+                    .map(AnalyzedNewsDto::realNewsDto)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.global.util.SimHash;
+import com.back.global.util.SimHashIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 본문 SimHash 로 내용이 거의 같은 기사를 걸러내는 서비스입니다.
+ * 여러 키워드("속보", "긴급" 등)로 같은 사건 기사가 여러 언론사에서 수집되면 AI 분석/가짜뉴스/퀴즈 생성 비용이 중복되므로,
+ * 크롤링 직후 유사 기사 묶음마다 먼저 도착한 기사 하나만 남깁니다.
+ * 최근 저장된 기사의 지문도 함께 비교해, 이전 수집분과 겹치는 기사도 제거합니다.
+ */
+@Slf4j
+@Service
+public class NearDuplicateNewsService {
+
+    private final RealNewsRepository realNewsRepository;
+    private final int maxDistance;
+    private final int historyDays;
+
+    public NearDuplicateNewsService(
+            RealNewsRepository realNewsRepository,
+            @Value("${news.dedup.simhash.max-distance:3}") int maxDistance,
+            @Value("${news.dedup.simhash.history-days:7}") int historyDays
+    ) {
+        this.realNewsRepository = realNewsRepository;
+        this.maxDistance = maxDistance;
+        this.historyDays = historyDays;
+    }
+
+    /**
+     * 최근 historyDays 일 동안 저장된 기사 지문으로 채운 인덱스를 만듭니다.
+     * 수집 한 번 동안 이 인덱스를 공유하며 accept 로 기사를 하나씩 확인합니다.
+     */
+    @Transactional(readOnly = true)
+    public SimHashIndex newIndex() {
+        SimHashIndex index = new SimHashIndex(maxDistance);
+        List<Long> history = realNewsRepository.findFingerprintsCreatedAfter(LocalDateTime.now().minusDays(historyDays));
+        history.forEach(index::add);
+        log.debug("유사 기사 인덱스 준비 - 최근 {}일 지문 {}개", historyDays, history.size());
+        return index;
+    }
+
+    // 비슷한 기사가 아직 없으면 인덱스에 추가하고 true, 이미 있으면 false
+    public boolean accept(SimHashIndex index, RealNewsDto news) {
+        long fingerprint = news.contentFingerprint() != null ? news.contentFingerprint() : SimHash.fingerprint(news.content());
+        boolean accepted = index.addIfAbsent(fingerprint);
+        if (!accepted) {
+            log.info("유사 기사 제외: {}", news.title());
+        }
+        return accepted;
+    }
+}
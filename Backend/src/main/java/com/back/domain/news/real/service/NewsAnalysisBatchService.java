@@ -4,15 +4,19 @@ import com.back.domain.news.common.dto.AnalyzedNewsDto;
 import com.back.domain.news.real.dto.RealNewsDto;
 import com.back.global.ai.AiService;
 import com.back.global.ai.processor.NewsAnalysisProcessor;
-import com.back.global.rateLimiter.RateLimiter;
+import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
@@ -21,24 +25,45 @@ public class NewsAnalysisBatchService {
 
     private final AiService aiService;
     private final ObjectMapper objectMapper;
-    private final RateLimiter rateLimiter;
 
-    @Async("newsExecutor")
-    public CompletableFuture<List<AnalyzedNewsDto>> processBatchAsync(List<RealNewsDto> batch) {
-        log.info("스레드: {}, 배치 시작", Thread.currentThread().getName());
+    @Autowired
+    @Qualifier("newsExecutor")
+    private Executor executor;
 
-        try {
-            rateLimiter.waitForRateLimit();
+    // AI 쿼터를 기다리는 동안에는 스레드를 점유하지 않고, 쿼터를 할당받은 뒤에만 newsExecutor에서 실행
+    public CompletableFuture<List<AnalyzedNewsDto>> processBatchAsync(List<RealNewsDto> batch) {
+        NewsAnalysisProcessor processor = new NewsAnalysisProcessor(batch, objectMapper);
 
-            NewsAnalysisProcessor processor = new NewsAnalysisProcessor(batch, objectMapper);
-            List<AnalyzedNewsDto> result = aiService.process(processor);
+        return aiService.processAsync(processor, executor)
+                .thenApply(result -> {
+                    log.info("스레드: {}, 배치 완료 - {}개", Thread.currentThread().getName(), result.size());
+                    return result;
+                })
+                .exceptionallyCompose(throwable -> retryAsSplit(batch, throwable));
+    }
 
-            log.info("스레드: {}, 배치 완료 - {}개", Thread.currentThread().getName(), result.size());
-            return CompletableFuture.completedFuture(result);
+    // 응답 JSON 이 깨졌거나 개수가 맞지 않으면(ServiceException) 배치를 반으로 나눠 다시 요청
+    private CompletableFuture<List<AnalyzedNewsDto>> retryAsSplit(List<RealNewsDto> batch, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
 
-        } catch (Exception e) {
-            log.error("배치 처리 실패", e);
+        if (!(cause instanceof ServiceException) || batch.size() < 2) {
+            log.error("배치 처리 실패 - {}개", batch.size(), cause);
             return CompletableFuture.completedFuture(List.of());
         }
+
+        int middle = batch.size() / 2;
+        log.warn("배치 응답 파싱 실패, {}개 → {}개 + {}개로 나눠 재시도: {}",
+                batch.size(), middle, batch.size() - middle, cause.getMessage());
+
+        CompletableFuture<List<AnalyzedNewsDto>> left = processBatchAsync(List.copyOf(batch.subList(0, middle)));
+        CompletableFuture<List<AnalyzedNewsDto>> right = processBatchAsync(List.copyOf(batch.subList(middle, batch.size())));
+
+        return left.thenCombine(right, (leftResult, rightResult) -> {
+            List<AnalyzedNewsDto> combined = new ArrayList<>(leftResult);
+            combined.addAll(rightResult);
+            return combined;
+        });
     }
-}
\ No newline at end of file
+}
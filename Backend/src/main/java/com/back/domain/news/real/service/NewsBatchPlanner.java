@@ -0,0 +1,101 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.global.ai.AiTokenEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 뉴스 분석 요청을 기사 수가 아니라 예상 토큰 수 기준으로 묶는 클래스입니다.
+ * 분석 응답은 정제된 본문을 그대로 다시 출력하므로, 배치 크기의 한계는 응답(출력) 토큰 수입니다.
+ * - 한 배치에 담긴 기사 본문의 예상 토큰 합이 maxBatchTokens 를 넘지 않도록 채웁니다.
+ * - 기사 하나가 maxArticleTokens 를 넘으면 문장 단위로 잘라서 넣습니다.
+ */
+@Slf4j
+@Component
+public class NewsBatchPlanner {
+
+    @Value("${news.analysis.max-batch-tokens:6000}") // 배치 하나의 본문 토큰 합 (모델 출력 한도 기준)
+    private int maxBatchTokens;
+
+    @Value("${news.analysis.max-article-tokens:3000}") // 기사 하나의 최대 토큰 수, 넘으면 잘라냄
+    private int maxArticleTokens;
+
+    @Value("${news.analysis.max-batch-size:8}") // 토큰과 상관없이 한 배치에 담을 최대 기사 수
+    private int maxBatchSize;
+
+    public Batcher newBatcher() {
+        return new Batcher();
+    }
+
+    // 기사를 하나씩 받아 예산이 차면 완성된 배치를 돌려주는 누적기 (스레드 안전하지 않음)
+    public class Batcher {
+        private List<RealNewsDto> current = new ArrayList<>();
+        private int currentTokens = 0;
+
+        /**
+         * 기사를 배치에 추가합니다.
+         *
+         * @return 이 기사를 넣을 자리가 없어 먼저 내보내야 하는 배치 (없으면 empty)
+         */
+        public Optional<List<RealNewsDto>> add(RealNewsDto news) {
+            RealNewsDto fitted = fit(news);
+            int tokens = AiTokenEstimator.estimate(fitted.content());
+
+            Optional<List<RealNewsDto>> full = Optional.empty();
+            if (!current.isEmpty() && (currentTokens + tokens > maxBatchTokens || current.size() >= maxBatchSize)) {
+                full = flush();
+            }
+            current.add(fitted);
+            currentTokens += tokens;
+            return full;
+        }
+
+        public Optional<List<RealNewsDto>> flush() {
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+            List<RealNewsDto> batch = current;
+            log.debug("분석 배치 구성 - {}개 기사, 예상 토큰 {}", batch.size(), currentTokens);
+            current = new ArrayList<>();
+            currentTokens = 0;
+            return Optional.of(batch);
+        }
+    }
+
+    private RealNewsDto fit(RealNewsDto news) {
+        String content = news.content();
+        if (AiTokenEstimator.estimate(content) <= maxArticleTokens) {
+            return news;
+        }
+
+        // 한글은 1자당 1토큰으로 추정하므로 maxArticleTokens 자 이내의 마지막 문장 끝에서 자름
+        String truncated = content.substring(0, Math.min(content.length(), maxArticleTokens));
+        int sentenceEnd = truncated.lastIndexOf(". ");
+        if (sentenceEnd > maxArticleTokens / 2) {
+            truncated = truncated.substring(0, sentenceEnd + 1);
+        }
+        log.info("긴 기사 본문 잘라냄 - {}자 → {}자: {}", content.length(), truncated.length(), news.title());
+
+        return RealNewsDto.of(
+                news.id(),
+                news.title(),
+                truncated,
+                news.description(),
+                news.link(),
+                news.imgUrl(),
+                news.originCreatedDate(),
+                news.createdDate(),
+                news.mediaName(),
+                news.journalist(),
+                news.originalNewsUrl(),
+                news.newsCategory(),
+                news.contentFingerprint() // 잘라내기 전 원문 기준 지문 유지
+        );
+    }
+}
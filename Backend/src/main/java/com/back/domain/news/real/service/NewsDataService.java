@@ -1,39 +1,53 @@
 package com.back.domain.news.real.service;
 
-import com.back.domain.news.common.dto.AnalyzedNewsDto;
 import com.back.domain.news.common.dto.NaverNewsDto;
 import com.back.domain.news.common.dto.NewsDetailDto;
+import com.back.domain.news.common.entity.CrawlCache;
 import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.common.service.CrawlCacheService;
 import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.dto.RealNewsSummaryDto;
 import com.back.domain.news.real.entity.RealNews;
+import com.back.domain.news.real.event.RealNewsCreatedEvent;
 import com.back.domain.news.real.mapper.RealNewsMapper;
 import com.back.domain.news.real.repository.RealNewsRepository;
 import com.back.domain.news.today.repository.TodayNewsRepository;
 import com.back.domain.news.today.entity.TodayNews;
 import com.back.domain.news.today.event.TodayNewsCreatedEvent;
+import com.back.global.async.Bulkhead;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import com.back.global.crawler.CrawlEngine;
 import com.back.global.exception.ServiceException;
 import com.back.global.rateLimiter.RateLimiter;
 import com.back.global.util.HtmlEntityDecoder;
+import com.back.global.util.SimHash;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
@@ -41,6 +55,8 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,11 +70,26 @@ public class NewsDataService {
     private final RealNewsMapper realNewsMapper;
     private final ObjectMapper objectMapper;
     private final RateLimiter rateLimiter;
+    private final CrawlEngine crawlEngine;
+    private final CrawlCacheService crawlCacheService;
+    private final RealNewsDedupService realNewsDedupService;
+    private final RealNewsRankService realNewsRankService;
+    private final CacheInvalidationBus cacheInvalidationBus;
     private final ApplicationEventPublisher publisher;
 
     // HTTP 요청을 보내기 위한 Spring의 HTTP 클라이언트(외부 API 호출 시 사용)
     private final RestTemplate restTemplate;
 
+    @Autowired
+    @Qualifier("naverApiBulkhead")
+    private Bulkhead naverApiBulkhead;
+
+    @Autowired
+    @Qualifier("newsExecutor")
+    private Executor newsExecutor;
+
+    private static final Duration RATE_LIMIT_TIMEOUT = Duration.ofMinutes(1); // 네이버 API 토큰 최대 대기 시간
+
     @Value("${NAVER_CLIENT_ID}")
     private String clientId;
 
@@ -103,7 +134,8 @@ public class NewsDataService {
 
         try {
             CompletableFuture<List<NaverNewsDto>> future = fetchNews(query);
-            List<NaverNewsDto> naverMetaDataList = future.get();
+            // 이미 저장된 링크/제목은 크롤링 전에 한 번에 제거
+            List<NaverNewsDto> naverMetaDataList = realNewsDedupService.filterNew(future.get());
             List<RealNewsDto> realNewsDtoList = new ArrayList<>();
 
             for (NaverNewsDto naverMetaData : naverMetaDataList) {
@@ -114,12 +146,7 @@ public class NewsDataService {
                     continue;
                 }
 
-                RealNewsDto realNewsDto = makeRealNewsFromInfo(naverMetaData, newsDetailData.get());
-
-                // 중복된 뉴스 제목이 있는지 확인
-                if (!realNewsRepository.existsByTitle(realNewsDto.title())) {
-                    realNewsDtoList.add(realNewsDto);
-                }
+                realNewsDtoList.add(makeRealNewsFromInfo(naverMetaData, newsDetailData.get()));
 
                 Thread.sleep(crawlingDelay);
             }
@@ -132,48 +159,49 @@ public class NewsDataService {
         }
     }
 
-    @Transactional
-    public List<RealNewsDto> createRealNewsDtoByCrawl(List<NaverNewsDto> MetaDataList) {
-
-        List<RealNewsDto> allRealNewsDtos = new ArrayList<>();
-        Set<String> processedUrls = new HashSet<>();
-
-        try {
-            for (NaverNewsDto metaData : MetaDataList) {
-                String url = metaData.link();
-
-                //중복체크
-                if (processedUrls.contains(url) || realNewsRepository.existsByLink(url)) {
-                    log.debug("스킵: {}", url);
-                    continue;
-                }
-
-                Optional<NewsDetailDto> newsDetailData = crawladditionalInfo(metaData.link());
-
-                if (newsDetailData.isEmpty()) {
-                    // 크롤링 실패 시 해당 뉴스는 건너뜀
-                    log.warn("크롤링 실패: {}", metaData.link());
-                    processedUrls.add(url); // 실패한 URL도 기록
-                    continue;
-
-                } else {
-                    log.info("크롤링 성공: {}", metaData.link());
-
-                }
-
-                RealNewsDto realNewsDto = makeRealNewsFromInfo(metaData, newsDetailData.get());
-                log.info("새 뉴스 생성 - ID: {}, 제목: {}", realNewsDto.id(), realNewsDto.title());
-                allRealNewsDtos.add(realNewsDto);
-                processedUrls.add(url);
-
-                Thread.sleep(crawlingDelay);
-            }
-            return allRealNewsDtos;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
-            throw new ServiceException(500, "뉴스 크롤링이 중단되었습니다");
+    // 호스트별 제한을 지키며 병렬로 크롤링하고, 파싱이 끝난 뉴스는 즉시 onCrawled로 전달
+    public CompletableFuture<Void> crawlRealNewsDtos(List<NaverNewsDto> MetaDataList, Consumer<RealNewsDto> onCrawled) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        //중복체크 (후보 전체를 링크/제목 기준으로 한 번에 확인)
+        List<NaverNewsDto> newMetaDataList = realNewsDedupService.filterNew(MetaDataList);
+        log.debug("중복 스킵: {}건", MetaDataList.size() - newMetaDataList.size());
+
+        // 후보 전체의 캐시를 한 번에 조회해, 캐시 적중 기사는 DB 왕복과 호스트 대기 없이 바로 처리
+        Map<String, CrawlCache> caches = crawlCacheService.findAll(
+                newMetaDataList.stream().map(NaverNewsDto::link).toList());
+
+        for (NaverNewsDto metaData : newMetaDataList) {
+            String url = metaData.link();
+            Optional<CrawlCache> cached = Optional.ofNullable(caches.get(url));
+
+            // 캐시가 유효한 URL 은 호스트 제한을 기다리지 않고 바로 처리, 만료된 캐시는 조건부 요청에 사용
+            CompletableFuture<Optional<NewsDetailDto>> detailFuture = cached
+                    .filter(CrawlCache::isFresh)
+                    .map(cache -> CompletableFuture.completedFuture(fromCache(cache)))
+                    .orElseGet(() -> crawlEngine.submit(url, target -> fetchNewsDetail(target, cached)));
+
+            futures.add(detailFuture
+                    .thenAccept(newsDetailData -> {
+                        if (newsDetailData.isEmpty()) {
+                            // 크롤링 실패 시 해당 뉴스는 건너뜀
+                            log.warn("크롤링 실패: {}", url);
+                            return;
+                        }
+                        log.info("크롤링 성공: {}", url);
+
+                        RealNewsDto realNewsDto = makeRealNewsFromInfo(metaData, newsDetailData.get());
+                        log.info("새 뉴스 생성 - ID: {}, 제목: {}", realNewsDto.id(), realNewsDto.title());
+                        onCrawled.accept(realNewsDto);
+                    })
+                    .exceptionally(throwable -> {
+                        log.warn("크롤링 처리 중 오류 발생: {}", url, throwable);
+                        return null;
+                    }));
         }
 
+        log.info("크롤링 작업 제출 완료: {}건", futures.size());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
 
     @Transactional
@@ -190,68 +218,53 @@ public class NewsDataService {
             log.info("저장 완료 - 생성된 ID: {}, 제목: {}", saved.getId(), saved.getTitle());
         }
         // Entity → DTO 변환해서 반환
-        return realNewsMapper.toDtoList(savedEntities);
-    }
-
-    // 네이버 API를 통해 메타데이터 수집
-    public List<NaverNewsDto> collectMetaDataFromNaver(List<String> keywords) {
-        List<NaverNewsDto> allNews = new ArrayList<>();
-        log.info("네이버 API 호출 시작: {} 개 키워드", keywords.size());
+        List<RealNewsDto> savedDtos = realNewsMapper.toDtoList(savedEntities);
 
-        List<CompletableFuture<List<NaverNewsDto>>> futures = keywords.stream()
-                .map(this::fetchNews) // 비동기 처리
-                .toList();
-
-        try {
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        // 새 뉴스가 들어간 카테고리의 순위만 다시 매김
+        realNewsRankService.refresh(savedEntities.stream().map(RealNews::getNewsCategory).collect(Collectors.toSet()));
 
-            for (int i = 0; i < futures.size(); i++) {
-                List<NaverNewsDto> news = futures.get(i).get();
-
-                List<NaverNewsDto> naverOnly = news.stream()
-                        .filter(dto -> dto.link().contains("n.news.naver.com"))
-                        .toList();
-
-                allNews.addAll(naverOnly);
-            }
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("런타임 인터럽트 발생");
-        } catch (ExecutionException e) {
-            throw new RuntimeException("뉴스 조회 중 오류 발생", e.getCause());
+        // 커밋 이후 모든 노드가 저장된 뉴스를 검색 인덱스에 반영할 수 있도록 저장 한 번에 메시지 하나 발행
+        if (!savedDtos.isEmpty()) {
+            cacheInvalidationBus.publish(CacheTopic.REAL_NEWS,
+                    RealNewsSearchService.changeKey(savedDtos.stream().map(RealNewsDto::id).toList()));
         }
+        return savedDtos;
+    }
 
-        //API 응답 받은 후 바로 URL 기준 중복 제거
-        List<NaverNewsDto> uniqueNews = removeDuplicateUrls(allNews);
-
-        log.info("API 호출 완료: {}건 → 중복 제거 후: {}건", allNews.size(), uniqueNews.size());
-        return uniqueNews;
+    // 선정된 뉴스 저장과 오늘의 뉴스 지정을 한 트랜잭션에서 처리하고, 커밋 이후 생성 이벤트 발행
+    @Transactional
+    public List<RealNewsDto> saveDailyNews(List<RealNewsDto> selectedNews) {
+        List<RealNewsDto> savedNews = saveAllRealNews(selectedNews);
 
-    }
+        if (savedNews.isEmpty()) {
+            return savedNews;
+        }
+        setTodayNews(savedNews.getFirst().id());
 
-    private List<NaverNewsDto> removeDuplicateUrls(List<NaverNewsDto> newsList) {
-        Map<String, NaverNewsDto> uniqueByUrl = new LinkedHashMap<>();
+        List<Long> realNewsIds = savedNews.stream()
+                .map(RealNewsDto::id)
+                .filter(Objects::nonNull) // null 체크
+                .toList();
 
-        for (NaverNewsDto news : newsList) {
-            String url = news.link();
-            if (!uniqueByUrl.containsKey(url)) {
-                uniqueByUrl.put(url, news);
-            } else {
-                log.debug("중복 URL 제거: {}", url);
+        // 트랜잭션 커밋 이후에 이벤트 발행
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publisher.publishEvent(new RealNewsCreatedEvent(realNewsIds));
             }
-        }
+        });
 
-        return new ArrayList<>(uniqueByUrl.values());
+        return savedNews;
     }
 
-
-    //
-    @Async("newsExecutor")
+    // 토큰을 기다리는 동안에는 스레드를 점유하지 않고, 토큰을 얻은 뒤 newsExecutor 에서 API 호출
     public CompletableFuture<List<NaverNewsDto>> fetchNews(String keyword) {
-        try {
-            rateLimiter.waitForRateLimit();
+        return rateLimiter.acquire(RATE_LIMIT_TIMEOUT)
+                .thenApplyAsync(ignored -> requestNews(keyword), newsExecutor);
+    }
 
+    private List<NaverNewsDto> requestNews(String keyword) {
+        try {
             String url = naverUrl + keyword + "&display=" + newsDisplayCount + "&sort=" + newsSortOrder;
 
             // http 요청 헤더 설정 (아래는 네이버 디폴트 형식)
@@ -263,9 +276,9 @@ public class NewsDataService {
             // get이라 본문은 없고 헤더만 포함 -> 아래에서 string = null로 설정
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            //http 요청 수행
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, String.class, keyword);
+            //http 요청 수행 (네이버 API 동시 호출 수 제한)
+            ResponseEntity<String> response = naverApiBulkhead.execute(() -> restTemplate.exchange(
+                    url, HttpMethod.GET, entity, String.class, keyword));
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 // JsonNode: json 구조를 트리 형태로 표현. json의 중첩 구조를 탐색할 때 사용
@@ -273,9 +286,9 @@ public class NewsDataService {
                 JsonNode items = objectMapper.readTree(response.getBody()).get("items");
 
                 if (items != null) {
-                    return CompletableFuture.completedFuture(getNewsMetaDataFromNaverApi(items));
+                    return getNewsMetaDataFromNaverApi(items);
                 }
-                return CompletableFuture.completedFuture(new ArrayList<>());
+                return new ArrayList<>();
             }
             throw new ServiceException(500, "네이버 API 호출 실패: " + response.getStatusCode());
 
@@ -289,35 +302,50 @@ public class NewsDataService {
 
 
 
-    // 단건 크롤링
+    // 단건 크롤링 (캐시가 유효하면 네트워크 요청 없이 캐시된 결과 사용)
     public Optional<NewsDetailDto> crawladditionalInfo(String naverNewsUrl) {
+        Optional<CrawlCache> cached = crawlCacheService.find(naverNewsUrl);
+        if (cached.isPresent() && cached.get().isFresh()) {
+            return fromCache(cached.get());
+        }
+        return fetchNewsDetail(naverNewsUrl, cached);
+    }
+
+    // 네트워크 요청으로 상세 정보를 가져옴 (cached 는 조건부 요청에 쓸 만료된 캐시)
+    private Optional<NewsDetailDto> fetchNewsDetail(String naverNewsUrl, Optional<CrawlCache> cached) {
         try {
-            Document doc = Jsoup.connect(naverNewsUrl)
+            Connection connection = Jsoup.connect(naverNewsUrl)
                     .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64)")  // 브라우저인 척
-                    .get();  // GET 요청으로 HTML 가져오기 (robots.txt에 걸리지 않도록)
+                    .ignoreHttpErrors(true);
 
+            // 만료된 캐시가 있으면 조건부 요청으로 변경 여부만 확인
+            cached.ifPresent(cache -> {
+                if (cache.getEtag() != null) connection.header("If-None-Match", cache.getEtag());
+                if (cache.getLastModified() != null) connection.header("If-Modified-Since", cache.getLastModified());
+            });
 
-            String content = Optional.ofNullable(doc.selectFirst("article#dic_area"))
-                    .map(this::extractTextWithLineBreaks)
-                    .orElse("");
+            Connection.Response response = connection.execute();  // GET 요청으로 HTML 가져오기 (robots.txt에 걸리지 않도록)
 
-            String imgUrl = Optional.ofNullable(doc.selectFirst("#img1"))
-                    .map(element -> element.attr("data-src"))
-                    .orElse("");
-
-            String journalist = Optional.ofNullable(doc.selectFirst("em.media_end_head_journalist_name"))
-                    .map(Element::text)
-                    .orElse("");
-            String mediaName = Optional.ofNullable(doc.selectFirst("img.media_end_head_top_logo_img"))
-                    .map(elem -> elem.attr("alt"))
-                    .orElse("");
-
-            // 크롤링한 정보가 비어있으면 null 반환
-            if (content.isEmpty() || imgUrl.isEmpty() || journalist.isEmpty() || mediaName.isEmpty()) {
+            if (response.statusCode() == HttpStatus.NOT_MODIFIED.value() && cached.isPresent()) {
+                log.debug("변경 없음(304), 캐시 사용: {}", naverNewsUrl);
+                updateCache(() -> crawlCacheService.revalidate(cached.get()));
+                return fromCache(cached.get());
+            }
+            if (response.statusCode() != HttpStatus.OK.value()) {
+                log.warn("크롤링 실패: {} (status: {})", naverNewsUrl, response.statusCode());
                 return Optional.empty();
             }
 
-            return Optional.of(NewsDetailDto.of(content, imgUrl, journalist, mediaName));
+            Optional<NewsDetailDto> detail = parseNewsDetail(response.parse());
+            String etag = response.header("ETag");
+            String lastModified = response.header("Last-Modified");
+
+            if (detail.isPresent()) {
+                updateCache(() -> crawlCacheService.saveParsed(naverNewsUrl, detail.get(), etag, lastModified));
+            } else {
+                updateCache(() -> crawlCacheService.saveUnparseable(naverNewsUrl, etag, lastModified));
+            }
+            return detail;
 
         } catch (IOException e) {
             log.warn("크롤링 실패: {}", naverNewsUrl);
@@ -325,6 +353,52 @@ public class NewsDataService {
         }
     }
 
+    private Optional<NewsDetailDto> parseNewsDetail(Document doc) {
+        String content = Optional.ofNullable(doc.selectFirst("article#dic_area"))
+                .map(this::extractTextWithLineBreaks)
+                .orElse("");
+
+        String imgUrl = Optional.ofNullable(doc.selectFirst("#img1"))
+                .map(element -> element.attr("data-src"))
+                .orElse("");
+
+        String journalist = Optional.ofNullable(doc.selectFirst("em.media_end_head_journalist_name"))
+                .map(Element::text)
+                .orElse("");
+        String mediaName = Optional.ofNullable(doc.selectFirst("img.media_end_head_top_logo_img"))
+                .map(elem -> elem.attr("alt"))
+                .orElse("");
+
+        // 크롤링한 정보가 비어있으면 null 반환
+        if (content.isEmpty() || imgUrl.isEmpty() || journalist.isEmpty() || mediaName.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(NewsDetailDto.of(content, imgUrl, journalist, mediaName));
+    }
+
+    private Optional<NewsDetailDto> fromCache(CrawlCache cache) {
+        if (!cache.isParsed()) {
+            log.debug("파싱 실패로 캐시된 URL, 스킵: {}", cache.getUrl());
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(crawlCacheService.decode(cache));
+        } catch (UncheckedIOException e) {
+            log.warn("크롤링 캐시 복원 실패: {}", cache.getUrl());
+            return Optional.empty();
+        }
+    }
+
+    // 캐시 저장 실패는 크롤링 결과에 영향을 주지 않도록 로그만 남김
+    private void updateCache(Runnable update) {
+        try {
+            update.run();
+        } catch (Exception e) {
+            log.warn("크롤링 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
     private String extractTextWithLineBreaks(Element element) {
         element.select("p").before("\n\n");
         element.select("div").before("\n\n");
@@ -346,7 +420,8 @@ public class NewsDataService {
                 newsDetailDto.mediaName(),
                 newsDetailDto.journalist(),
                 naverNewsDto.originallink(),
-                NewsCategory.NOT_FILTERED
+                NewsCategory.NOT_FILTERED,
+                SimHash.fingerprint(newsDetailDto.content()) // AI 정제로 본문이 바뀌기 전의 원문 기준
 
         );
     }
@@ -408,6 +483,8 @@ public class NewsDataService {
         }
         // 뉴스 삭제 (FakeNews도 CASCADE로 함께 삭제됨)
         realNewsRepository.deleteById(newsId);
+        realNewsRankService.refresh(Collections.singleton(realNewsOpt.get().getNewsCategory()));
+        cacheInvalidationBus.publish(CacheTopic.REAL_NEWS, RealNewsSearchService.changeKey(List.of(newsId)));
         return true;
     }
 
@@ -432,6 +509,7 @@ public class NewsDataService {
 
         todayNewsRepository.save(todayNews);
 
+        cacheInvalidationBus.publish(CacheTopic.TODAY_NEWS, id);
         publisher.publishEvent(new TodayNewsCreatedEvent(todayNews.getId()));
     }
 
@@ -439,20 +517,6 @@ public class NewsDataService {
         return (int) realNewsRepository.count();
     }
 
-    public List<RealNewsDto> selectNewsByScore(List<AnalyzedNewsDto> allRealNewsAfterFilter) {
-        return allRealNewsAfterFilter.stream()
-                .collect(Collectors.groupingBy(AnalyzedNewsDto::category))
-                .values()
-                .stream()
-                .flatMap(categoryNews ->
-                        categoryNews.stream()
-                                .sorted(Comparator.comparing(AnalyzedNewsDto::score).reversed())
-                                .limit(4)
-                )
-                .map(AnalyzedNewsDto::realNewsDto)
-                .toList();
-    }
-
     public List<String> addKeywords(List<String> keywords, List<String> staticKeyword) {
         return Stream.concat(keywords.stream(), staticKeyword.stream())
                 .distinct()
@@ -460,9 +524,8 @@ public class NewsDataService {
     }
 
     @Transactional(readOnly = true)
-    public Page<RealNewsDto> getAllRealNewsList(Pageable pageable) {
-        return realNewsRepository.findAll(pageable)
-                .map(realNewsMapper::toDto);
+    public Page<RealNewsSummaryDto> getAllRealNewsList(Pageable pageable) {
+        return realNewsRepository.findSummaries(null, pageable);
     }
 
 
@@ -0,0 +1,65 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.common.dto.NaverNewsDto;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 뉴스 수집 후보 중 이미 저장된 뉴스(링크 또는 제목이 같은 뉴스)를 한 번에 걸러내는 서비스입니다.
+ * 후보마다 exists 쿼리를 보내지 않고, 청크 단위 IN 쿼리(link, title 인덱스)로 한꺼번에 확인합니다.
+ *
+ * 다른 노드가 저장한 뉴스도 걸러야 하므로 노드별 메모리 필터로 DB 확인을 건너뛰지 않고 항상 DB 로 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RealNewsDedupService {
+
+    private final RealNewsRepository realNewsRepository;
+
+    private static final int IN_QUERY_CHUNK_SIZE = 500;
+
+    /**
+     * 후보 목록에서 이미 저장된 뉴스와 후보끼리 겹치는 뉴스를 제거합니다.
+     *
+     * @param candidates 네이버 API 로 수집한 뉴스 메타데이터
+     * @return 링크와 제목이 모두 처음 보는 뉴스 (입력 순서 유지)
+     */
+    @Transactional(readOnly = true)
+    public List<NaverNewsDto> filterNew(List<NaverNewsDto> candidates) {
+        // 후보끼리의 중복 제거
+        Set<String> seenLinks = new HashSet<>();
+        Set<String> seenTitles = new HashSet<>();
+        List<NaverNewsDto> unique = candidates.stream()
+                .filter(dto -> seenLinks.add(dto.link()) & seenTitles.add(dto.title()))
+                .toList();
+
+        Set<String> existingLinks = findExisting(
+                unique.stream().map(NaverNewsDto::link).filter(Objects::nonNull).toList(), realNewsRepository::findExistingLinks);
+        Set<String> existingTitles = findExisting(
+                unique.stream().map(NaverNewsDto::title).filter(Objects::nonNull).toList(), realNewsRepository::findExistingTitles);
+
+        List<NaverNewsDto> result = unique.stream()
+                .filter(dto -> !existingLinks.contains(dto.link()) && !existingTitles.contains(dto.title()))
+                .toList();
+
+        log.debug("중복 제거: 후보 {}건 → 신규 {}건 (기존 링크 {}건, 기존 제목 {}건)",
+                candidates.size(), result.size(), existingLinks.size(), existingTitles.size());
+        return result;
+    }
+
+    private Set<String> findExisting(List<String> values, Function<Collection<String>, List<String>> query) {
+        Set<String> existing = new HashSet<>();
+        for (int i = 0; i < values.size(); i += IN_QUERY_CHUNK_SIZE) {
+            List<String> chunk = values.subList(i, Math.min(i + IN_QUERY_CHUNK_SIZE, values.size()));
+            existing.addAll(query.apply(chunk));
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,69 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * real_news.category_rank(카테고리 내 최신순 순위)를 관리하는 서비스입니다.
+ * 조회할 때마다 ROW_NUMBER() 로 전체 테이블을 정렬하지 않도록, 뉴스 저장/삭제 시 해당 카테고리의 순위만 다시 매깁니다.
+ * 순위가 쓰이는 곳은 상위 몇 개(OX 퀴즈 대상 뉴스 등)뿐이므로 카테고리별 상위 trackedDepth 개만 순위를 저장하고 나머지는 null 로 둡니다.
+ */
+@Slf4j
+@Service
+public class RealNewsRankService {
+
+    private final RealNewsRepository realNewsRepository;
+    private final int trackedDepth;
+
+    public RealNewsRankService(
+            RealNewsRepository realNewsRepository,
+            @Value("${news.category-rank.tracked-depth:10}") int trackedDepth
+    ) {
+        this.realNewsRepository = realNewsRepository;
+        this.trackedDepth = trackedDepth;
+    }
+
+    // 기존 데이터(컬럼 추가 이전에 저장된 뉴스 포함)의 순위를 시작 시 한 번 맞춤
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void refreshAll() {
+        Set<NewsCategory> categories = new HashSet<>(Arrays.asList(NewsCategory.values()));
+        categories.add(null); // 카테고리 없는 뉴스도 하나의 그룹으로 순위를 매김
+        refresh(categories);
+        log.info("카테고리 순위 초기화 완료 - 카테고리별 상위 {}개", trackedDepth);
+    }
+
+    /**
+     * 주어진 카테고리들의 순위를 최신순으로 다시 매깁니다. 호출한 쪽의 트랜잭션에서 실행됩니다.
+     *
+     * @param categories 뉴스가 추가되거나 삭제된 카테고리 (null 은 카테고리 없는 뉴스)
+     */
+    @Transactional
+    public void refresh(Collection<NewsCategory> categories) {
+        for (NewsCategory category : new HashSet<>(categories)) {
+            List<Long> latestIds = realNewsRepository.findLatestIdsByCategory(category, PageRequest.of(0, trackedDepth));
+
+            realNewsRepository.clearCategoryRank(category);
+            for (int i = 0; i < latestIds.size(); i++) {
+                realNewsRepository.updateCategoryRank(latestIds.get(i), i + 1);
+            }
+        }
+    }
+
+    // 저장해 둔 깊이를 넘는 순위는 조회할 수 없으므로 잘못된 요청으로 처리
+    public void requireTracked(int rank) {
+        if (rank < 1 || rank > trackedDepth) {
+            throw new ServiceException(400, "조회할 수 없는 순위입니다. 1 ~ " + trackedDepth + " 사이의 값을 입력하세요: " + rank);
+        }
+    }
+}
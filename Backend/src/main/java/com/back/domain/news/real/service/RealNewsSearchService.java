@@ -0,0 +1,342 @@
+package com.back.domain.news.real.service;
+
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.dto.RealNewsSearchResultDto;
+import com.back.domain.news.real.entity.RealNews;
+import com.back.domain.news.real.mapper.RealNewsMapper;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import com.back.global.exception.ServiceException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleFragmenter;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 뉴스 제목/본문 전문 검색 서비스입니다.
+ * - 로컬 디스크의 Lucene 인덱스를 사용하며, 한국어는 Nori 형태소 분석기로 색인합니다.
+ * - 인덱스는 노드마다 따로 있으므로, 뉴스 저장/삭제 시 발행되는 REAL_NEWS 무효화 메시지(키: 뉴스 ID 목록)를 구독해
+ *   모든 노드가 커밋 이후 해당 뉴스를 다시 색인하거나 지웁니다.
+ * - 검색 결과는 관련도 순이며, 목록 표시용 필드를 인덱스에 함께 저장하므로 DB 를 조회하지 않습니다.
+ * 시작 시 인덱스와 real_news 의 ID 를 비교해, 메시지를 놓친 동안 생긴 차이를 맞춥니다.
+ */
+@Slf4j
+@Service
+public class RealNewsSearchService {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String CATEGORY = "category";
+    private static final String DESCRIPTION = "description";
+    private static final String IMG_URL = "imgUrl";
+    private static final String MEDIA_NAME = "mediaName";
+    private static final String ORIGIN_CREATED_DATE = "originCreatedDate";
+
+    private static final int SYNC_BATCH_SIZE = 200;
+    private static final int MAX_CHANGE_KEY_LENGTH = 255; // cache_invalidation_event.cache_key 길이
+    private static final int CONTENT_FRAGMENT_SIZE = 120;
+
+    private final RealNewsRepository realNewsRepository;
+    private final RealNewsMapper realNewsMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public RealNewsSearchService(
+            RealNewsRepository realNewsRepository,
+            RealNewsMapper realNewsMapper,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${news.search.index-dir:./data/news-index}") String indexDir,
+            @Value("${news.search.in-memory:false}") boolean inMemory
+    ) throws IOException {
+        this.realNewsRepository = realNewsRepository;
+        this.realNewsMapper = realNewsMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.directory = inMemory ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheTopic.REAL_NEWS, this::onRealNewsChanged);
+    }
+
+    /**
+     * REAL_NEWS 메시지 키를 만듭니다. 저장/삭제 한 번에 메시지 하나만 발행하도록 뉴스 ID 를 ',' 로 이어 붙이고,
+     * 메시지 키 컬럼(255자)을 넘으면 null(전체 동기화)을 반환합니다.
+     */
+    static String changeKey(Collection<Long> newsIds) {
+        String key = newsIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return key.length() <= MAX_CHANGE_KEY_LENGTH ? key : null;
+    }
+
+    // 어느 노드에서 저장/삭제했든 커밋된 DB 상태를 기준으로 메시지의 뉴스를 다시 색인하거나 지우고, 인덱스는 메시지마다 한 번만 커밋
+    private void onRealNewsChanged(String key) {
+        if (key == null) {
+            syncWithDatabase();
+            return;
+        }
+        List<Long> newsIds = Arrays.stream(key.split(",")).map(Long::valueOf).toList();
+        try {
+            Map<Long, RealNews> saved = realNewsRepository.findAllById(newsIds).stream()
+                    .collect(Collectors.toMap(RealNews::getId, Function.identity()));
+            for (Long newsId : newsIds) {
+                Term term = new Term(ID, String.valueOf(newsId));
+                RealNews news = saved.get(newsId);
+                if (news != null) {
+                    writer.updateDocument(term, toDocument(realNewsMapper.toDto(news)));
+                } else {
+                    writer.deleteDocuments(term);
+                }
+            }
+            commit();
+        } catch (IOException e) {
+            log.warn("뉴스 검색 인덱스 갱신 실패 - ID: {}", key, e);
+        }
+    }
+
+    /**
+     * 인덱스의 뉴스 ID 와 real_news 의 ID 를 비교해 빠진 뉴스는 색인하고, DB 에 없는 뉴스는 지웁니다.
+     * 뉴스는 저장 이후 색인 대상 필드(제목, 본문, 카테고리)가 바뀌지 않으므로 ID 집합이 같으면 인덱스도 같습니다.
+     * 건수만 비교하면 한 건 추가와 한 건 삭제를 놓친 노드의 인덱스를 바로잡지 못합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void syncWithDatabase() {
+        try {
+            Set<Long> newsIds = new HashSet<>(realNewsRepository.findAllIds());
+            Set<Long> indexedIds = indexedIds();
+
+            List<Long> missing = newsIds.stream().filter(id -> !indexedIds.contains(id)).sorted().toList();
+            List<Long> stale = indexedIds.stream().filter(id -> !newsIds.contains(id)).toList();
+            if (missing.isEmpty() && stale.isEmpty()) {
+                log.info("뉴스 검색 인덱스 준비 완료 - {}건", indexedIds.size());
+                return;
+            }
+
+            log.info("뉴스 검색 인덱스 동기화 - 추가 {}건, 삭제 {}건", missing.size(), stale.size());
+            for (Long id : stale) {
+                writer.deleteDocuments(new Term(ID, String.valueOf(id)));
+            }
+            for (int from = 0; from < missing.size(); from += SYNC_BATCH_SIZE) {
+                List<Long> batch = missing.subList(from, Math.min(from + SYNC_BATCH_SIZE, missing.size()));
+                for (RealNews news : realNewsRepository.findAllById(batch)) {
+                    RealNewsDto dto = realNewsMapper.toDto(news);
+                    writer.updateDocument(new Term(ID, String.valueOf(dto.id())), toDocument(dto));
+                }
+            }
+            commit();
+        } catch (IOException e) {
+            log.error("뉴스 검색 인덱스 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 제목(가중치 2)과 본문에서 검색어를 찾아 관련도 순으로 반환합니다.
+     *
+     * @param keyword     검색어 (Lucene 문법은 사용할 수 없고 일반 텍스트로 처리)
+     * @param category    카테고리 필터 (null 이면 전체)
+     * @param excludedIds 결과에서 제외할 뉴스 ID (오늘의 뉴스, OX 퀴즈 대상 뉴스 등)
+     */
+    public Page<RealNewsSearchResultDto> search(String keyword, NewsCategory category, Collection<Long> excludedIds, Pageable pageable) {
+        Query textQuery = parse(keyword);
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (category != null) {
+            builder.add(new TermQuery(new Term(CATEGORY, category.name())), BooleanClause.Occur.FILTER);
+        }
+        for (Long excludedId : excludedIds) {
+            builder.add(new TermQuery(new Term(ID, String.valueOf(excludedId))), BooleanClause.Occur.MUST_NOT);
+        }
+        Query query = builder.build();
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            int total = searcher.count(query);
+            if (pageable.getOffset() >= total) {
+                return new PageImpl<>(List.of(), pageable, total); // 결과 범위를 벗어난 페이지는 검색하지 않음
+            }
+            int offset = Math.toIntExact(pageable.getOffset());
+            TopDocs topDocs = searcher.search(query, (int) Math.min(total, (long) offset + pageable.getPageSize()));
+
+            Highlighter highlighter = new Highlighter(
+                    new SimpleHTMLFormatter("<em>", "</em>"), new SimpleHTMLEncoder(), new QueryScorer(textQuery));
+            highlighter.setTextFragmenter(new SimpleFragmenter(CONTENT_FRAGMENT_SIZE));
+
+            StoredFields storedFields = searcher.storedFields();
+            List<RealNewsSearchResultDto> results = new ArrayList<>();
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            for (int i = offset; i < hits.length; i++) {
+                results.add(toResult(storedFields.document(hits[i].doc), hits[i].score, highlighter));
+            }
+            return new PageImpl<>(results, pageable, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException("뉴스 검색 중 오류가 발생했습니다", e);
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query parse(String keyword) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{TITLE, CONTENT}, analyzer, Map.of(TITLE, 2f, CONTENT, 1f));
+        try {
+            return parser.parse(QueryParser.escape(keyword));
+        } catch (ParseException e) {
+            throw new ServiceException(400, "검색어를 해석할 수 없습니다: " + keyword);
+        }
+    }
+
+    private Document toDocument(RealNewsDto news) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(news.id()), Field.Store.YES));
+        doc.add(new TextField(TITLE, nullToEmpty(news.title()), Field.Store.YES));
+        doc.add(new TextField(CONTENT, nullToEmpty(news.content()), Field.Store.YES));
+        if (news.newsCategory() != null) {
+            doc.add(new StringField(CATEGORY, news.newsCategory().name(), Field.Store.YES));
+        }
+        doc.add(new StoredField(DESCRIPTION, nullToEmpty(news.description())));
+        doc.add(new StoredField(IMG_URL, nullToEmpty(news.imgUrl())));
+        doc.add(new StoredField(MEDIA_NAME, nullToEmpty(news.mediaName())));
+        if (news.originCreatedDate() != null) {
+            doc.add(new StoredField(ORIGIN_CREATED_DATE, news.originCreatedDate().toString()));
+        }
+        return doc;
+    }
+
+    private RealNewsSearchResultDto toResult(Document doc, float score, Highlighter highlighter) throws IOException {
+        String title = doc.get(TITLE);
+        String content = doc.get(CONTENT);
+        String category = doc.get(CATEGORY);
+        String originCreatedDate = doc.get(ORIGIN_CREATED_DATE);
+
+        return new RealNewsSearchResultDto(
+                Long.valueOf(doc.get(ID)),
+                title,
+                highlight(highlighter, TITLE, title),
+                highlight(highlighter, CONTENT, content),
+                doc.get(DESCRIPTION),
+                doc.get(IMG_URL),
+                doc.get(MEDIA_NAME),
+                originCreatedDate != null ? LocalDateTime.parse(originCreatedDate) : null,
+                category != null ? NewsCategory.valueOf(category) : null,
+                score
+        );
+    }
+
+    // 일치하는 부분이 없으면 원문 앞부분을 그대로 사용
+    private String highlight(Highlighter highlighter, String field, String text) throws IOException {
+        try {
+            String fragment = highlighter.getBestFragment(analyzer, field, text);
+            if (fragment != null) {
+                return fragment;
+            }
+        } catch (InvalidTokenOffsetsException e) {
+            log.debug("하이라이트 생성 실패: {}", e.getMessage());
+        }
+        String head = text.length() > CONTENT_FRAGMENT_SIZE ? text.substring(0, CONTENT_FRAGMENT_SIZE) : text;
+        return SimpleHTMLEncoder.htmlEncode(head);
+    }
+
+    private Set<Long> indexedIds() throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            Set<Long> ids = new HashSet<>();
+            TopDocs all = searcher.search(new MatchAllDocsQuery(), Math.max(1, searcher.getIndexReader().numDocs()));
+            StoredFields storedFields = searcher.storedFields();
+            for (ScoreDoc hit : all.scoreDocs) {
+                ids.add(Long.valueOf(storedFields.document(hit.doc, Set.of(ID)).get(ID)));
+            }
+            return ids;
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private void commit() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.debug("검색기 반환 실패", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
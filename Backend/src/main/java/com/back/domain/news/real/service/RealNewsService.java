@@ -1,13 +1,18 @@
 package com.back.domain.news.real.service;
 
 
+import com.back.domain.news.common.dto.NewsCursor;
+import com.back.domain.news.common.dto.NewsCursorPage;
 import com.back.domain.news.common.enums.NewsCategory;
 import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.dto.RealNewsSearchResultDto;
+import com.back.domain.news.real.dto.RealNewsSummaryDto;
 import com.back.domain.news.real.entity.RealNews;
 import com.back.domain.news.real.mapper.RealNewsMapper;
 import com.back.domain.news.real.repository.RealNewsRepository;
-import com.back.domain.news.today.repository.TodayNewsRepository;
+import com.back.domain.news.today.service.TodayNewsCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,14 +24,14 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import com.back.domain.news.today.entity.TodayNews;
-
 @Service
 @RequiredArgsConstructor
 public class RealNewsService {
     private final RealNewsRepository realNewsRepository;
     private final RealNewsMapper realNewsMapper;
-    private final TodayNewsRepository todayNewsRepository;
+    private final TodayNewsCache todayNewsCache;
+    private final RealNewsRankService realNewsRankService;
+    private final RealNewsSearchService realNewsSearchService;
 
     @Transactional(readOnly = true)
     public Optional<RealNewsDto> getRealNewsDtoById(Long id) {
@@ -35,38 +40,25 @@ public class RealNewsService {
     }
 
     @Transactional(readOnly = true)
-    public Page<RealNewsDto> getRealNewsList(Pageable pageable) {
-        Optional<Long> todayNewsId = getTodayNews().map(RealNewsDto::id);
-
-        if (todayNewsId.isPresent()) {
-            // 오늘 뉴스가 있다면, 해당 뉴스는 제외하고 나머지 뉴스만 조회
-            return realNewsRepository.findByIdNot(todayNewsId.get(), pageable)
-                    .map(realNewsMapper::toDto);
-        }
-
-        return realNewsRepository.findAll(pageable)
-                .map(realNewsMapper::toDto);
+    public Page<RealNewsSummaryDto> getRealNewsList(Pageable pageable) {
+        // 오늘 뉴스가 있다면, 해당 뉴스는 제외하고 나머지 뉴스만 조회
+        Long todayNewsId = getTodayNewsId().orElse(null);
+        return realNewsRepository.findSummaries(todayNewsId, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<RealNewsDto> searchRealNewsByTitle(String title, Pageable pageable) {
-        Optional<Long> todayNewsId = getTodayNews().map(RealNewsDto::id);
-        if (todayNewsId.isPresent()) {
-            return realNewsRepository.findByTitleContainingAndIdNot(title, todayNewsId.get(), pageable)
-                    .map(realNewsMapper::toDto);
-        }
-
-        return realNewsRepository.findByTitleContaining(title, pageable)
-                .map(realNewsMapper::toDto);
+    public Page<RealNewsSummaryDto> searchRealNewsByTitle(String title, Pageable pageable) {
+        Long todayNewsId = getTodayNewsId().orElse(null);
+        return realNewsRepository.findSummariesByTitle(title, todayNewsId, pageable);
     }
 
-    @Transactional(readOnly = true)
+    // 오늘의 뉴스는 메모리 캐시에서 조회 (날짜 변경, 오늘의 뉴스 변경/삭제 시 갱신)
     public Optional<RealNewsDto> getTodayNews() {
-        LocalDate today = LocalDate.now();
-        return todayNewsRepository.findBySelectedDate(today)
-                .map(TodayNews::getRealNews)        // TodayNews -> RealNews
-                .map(realNewsMapper::toDto);
+        return todayNewsCache.get();
+    }
 
+    private Optional<Long> getTodayNewsId() {
+        return getTodayNews().map(RealNewsDto::id);
     }
 
     @Transactional(readOnly = true)
@@ -81,70 +73,127 @@ public class RealNewsService {
     }
 
     @Transactional(readOnly = true)
-    public Page<RealNewsDto> getAllRealNewsByCategory(NewsCategory category, Pageable pageable) {
-        Optional<Long> todayNewsId = getTodayNews().map(RealNewsDto::id);
-
-        if (todayNewsId.isPresent()) {
-            // 오늘 뉴스가 있다면, 해당 뉴스는 제외하고 나머지 뉴스만 조회
-            return realNewsRepository.findByNewsCategoryAndIdNot(category, todayNewsId.get(), pageable)
-                    .map(realNewsMapper::toDto);
-        }
-        return realNewsRepository.findByNewsCategory(category, pageable)
-                .map(realNewsMapper::toDto);
+    public Page<RealNewsSummaryDto> getAllRealNewsByCategory(NewsCategory category, Pageable pageable) {
+        // 오늘 뉴스가 있다면, 해당 뉴스는 제외하고 나머지 뉴스만 조회
+        Long todayNewsId = getTodayNewsId().orElse(null);
+        return realNewsRepository.findSummariesByCategory(category, todayNewsId, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<RealNewsDto> getRealNewsListExcludingNth(Pageable pageable, int n) {
-        Optional<Long> todayNewsId = getTodayNews().map(RealNewsDto::id);
+    public Page<RealNewsSummaryDto> getRealNewsListExcludingNth(Pageable pageable, int n) {
+        realNewsRankService.requireTracked(n + 1);
+        Optional<Long> todayNewsId = getTodayNewsId();
 
         Pageable unsortedPageable = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize()
         );
 
-        Page<RealNews> realNewsPage = realNewsRepository.findAllExcludingNth(
+        return realNewsRepository.findAllExcludingNth(
                 todayNewsId.orElse(null), // 오늘 뉴스 ID가 있다면 제외
                 n + 1,
                 unsortedPageable);
-        return realNewsPage.map(realNewsMapper::toDto);
 
     }
 
     @Transactional(readOnly = true)
-    public Page<RealNewsDto> searchRealNewsByTitleExcludingNth(String title, Pageable pageable, int n) {
-        Optional<Long> todayNewsId = getTodayNews().map(RealNewsDto::id);
+    public Page<RealNewsSummaryDto> searchRealNewsByTitleExcludingNth(String title, Pageable pageable, int n) {
+        realNewsRankService.requireTracked(n + 1);
+        Optional<Long> todayNewsId = getTodayNewsId();
 
         Pageable unsortedPageable = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize()
         );
 
-        Page<RealNews> page = realNewsRepository.findByTitleExcludingNthCategoryRank(
+        return realNewsRepository.findByTitleExcludingNthCategoryRank(
                 title,
                 todayNewsId.orElse(null),
                 n + 1,
                 unsortedPageable
         );
-
-        return page.map(realNewsMapper::toDto);
     }
 
     @Transactional(readOnly = true)
-    public Page<RealNewsDto> getRealNewsListByCategoryExcludingNth(NewsCategory category, Pageable pageable, int n) {
-        Optional<Long> todayNewsId = getTodayNews().map(RealNewsDto::id);
+    public Page<RealNewsSummaryDto> getRealNewsListByCategoryExcludingNth(NewsCategory category, Pageable pageable, int n) {
+        realNewsRankService.requireTracked(n + 1);
+        Optional<Long> todayNewsId = getTodayNewsId();
 
         Pageable unsortedPageable = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize()
         );
 
-        Page<RealNews> page = realNewsRepository.findByCategoryExcludingNth(
+        return realNewsRepository.findByCategoryExcludingNth(
                 category,
                 todayNewsId.orElse(null),
                 n + 1,
                 unsortedPageable
         );
+    }
+
+    // 제목/본문 전문 검색 (관련도 순). 오늘의 뉴스와 n번째 순위 뉴스 제외 규칙은 목록 조회와 동일
+    @Transactional(readOnly = true)
+    public Page<RealNewsSearchResultDto> searchRealNewsByKeywordExcludingNth(String keyword, NewsCategory category, Pageable pageable, int n) {
+        realNewsRankService.requireTracked(n + 1);
+
+        List<Long> excludedIds = new ArrayList<>(realNewsRepository.findIdsByCategoryRank(n + 1));
+        getTodayNewsId().ifPresent(excludedIds::add);
+
+        return realNewsSearchService.search(keyword, category, excludedIds, pageable);
+    }
+
+    // 커서 기반 목록 조회 (offset/COUNT 없이 인덱스 범위 조회). 오늘의 뉴스와 n번째 순위 뉴스 제외 규칙은 페이지 조회와 동일
+    @Transactional(readOnly = true)
+    public NewsCursorPage<RealNewsSummaryDto> getRealNewsListExcludingNth(String cursor, int size, boolean withTotal, int n) {
+        realNewsRankService.requireTracked(n + 1);
+        NewsCursor after = NewsCursor.decode(cursor);
+        Long todayNewsId = getTodayNewsId().orElse(null);
+
+        List<RealNewsSummaryDto> rows = realNewsRepository.findAllExcludingNthAfter(
+                after.createdDate(), after.id(), todayNewsId, n + 1, Limit.of(size + 1));
+
+        return toCursorPage(rows, size,
+                withTotal ? realNewsRepository.countExcludingNth(null, null, todayNewsId, n + 1) : null);
+    }
+
+    @Transactional(readOnly = true)
+    public NewsCursorPage<RealNewsSummaryDto> searchRealNewsByTitleExcludingNth(String title, String cursor, int size, boolean withTotal, int n) {
+        realNewsRankService.requireTracked(n + 1);
+        NewsCursor after = NewsCursor.decode(cursor);
+        Long todayNewsId = getTodayNewsId().orElse(null);
+
+        List<RealNewsSummaryDto> rows = realNewsRepository.findByTitleExcludingNthAfter(
+                title, after.createdDate(), after.id(), todayNewsId, n + 1, Limit.of(size + 1));
+
+        return toCursorPage(rows, size,
+                withTotal ? realNewsRepository.countExcludingNth(title, null, todayNewsId, n + 1) : null);
+    }
+
+    @Transactional(readOnly = true)
+    public NewsCursorPage<RealNewsSummaryDto> getRealNewsListByCategoryExcludingNth(NewsCategory category, String cursor, int size, boolean withTotal, int n) {
+        realNewsRankService.requireTracked(n + 1);
+        NewsCursor after = NewsCursor.decode(cursor);
+        Long todayNewsId = getTodayNewsId().orElse(null);
+
+        List<RealNewsSummaryDto> rows = realNewsRepository.findByCategoryExcludingNthAfter(
+                category, after.createdDate(), after.id(), todayNewsId, n + 1, Limit.of(size + 1));
+
+        return toCursorPage(rows, size,
+                withTotal ? realNewsRepository.countExcludingNth(null, category, todayNewsId, n + 1) : null);
+    }
+
+    // size + 1 개를 조회해 다음 페이지 존재 여부를 판단
+    private NewsCursorPage<RealNewsSummaryDto> toCursorPage(List<RealNewsSummaryDto> rows, int size, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<RealNewsSummaryDto> content = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RealNewsSummaryDto last = content.getLast();
+            nextCursor = NewsCursor.of(last.createdDate(), last.id()).encode();
+        }
 
-        return page.map(realNewsMapper::toDto);
+        return NewsCursorPage.of(content, nextCursor, size, totalElements);
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_today_news_selected_date", columnList = "selectedDate"))
 public class TodayNews {
     @Id
     private Long id;
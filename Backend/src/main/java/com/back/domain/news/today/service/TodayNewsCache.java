@@ -0,0 +1,72 @@
+package com.back.domain.news.today.service;
+
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.mapper.RealNewsMapper;
+import com.back.domain.news.today.entity.TodayNews;
+import com.back.domain.news.today.repository.TodayNewsRepository;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 오늘의 뉴스를 메모리에 보관하는 캐시입니다.
+ * 목록/검색/단건 조회가 모두 오늘의 뉴스 ID 를 먼저 확인하므로, 날짜가 바뀌거나 오늘의 뉴스가 변경될 때만 DB 를 조회합니다.
+ * - 캐시된 값은 조회한 날짜에만 유효하며, 자정이 지나면 다음 조회에서 다시 읽습니다.
+ * - 오늘의 뉴스 지정과 뉴스 삭제가 커밋되면 CacheInvalidationBus 를 통해 모든 노드에서 invalidate 됩니다.
+ * 조회 중 무효화가 일어나면 방금 읽은 (이전) 값은 캐시에 넣지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayNewsCache {
+    private final TodayNewsRepository todayNewsRepository;
+    private final RealNewsMapper realNewsMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private record Snapshot(LocalDate date, Optional<RealNewsDto> news) {}
+
+    private volatile Snapshot snapshot;
+    private long generation = 0; // invalidate 횟수, this 로 동기화
+
+    public Optional<RealNewsDto> get() {
+        LocalDate today = LocalDate.now();
+        Snapshot current = snapshot;
+        if (current != null && current.date().equals(today)) {
+            return current.news();
+        }
+
+        long loadingGeneration;
+        synchronized (this) {
+            loadingGeneration = generation;
+        }
+
+        Optional<RealNewsDto> loaded = todayNewsRepository.findBySelectedDate(today)
+                .map(TodayNews::getRealNews)
+                .map(realNewsMapper::toDto);
+
+        synchronized (this) {
+            if (generation == loadingGeneration) {
+                snapshot = new Snapshot(today, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+        log.debug("오늘의 뉴스 캐시 무효화");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheTopic.TODAY_NEWS, key -> invalidate());
+        cacheInvalidationBus.subscribe(CacheTopic.REAL_NEWS, key -> invalidate());
+    }
+}
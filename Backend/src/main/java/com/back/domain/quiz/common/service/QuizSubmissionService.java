@@ -0,0 +1,78 @@
+package com.back.domain.quiz.common.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.member.quizhistory.dto.PendingQuizHistory;
+import com.back.domain.member.quizhistory.service.QuizHistoryService;
+import com.back.domain.member.quizhistory.service.QuizHistoryWriteBehind;
+import com.back.domain.quiz.QuizType;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import com.back.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상세/팩트/오늘의 퀴즈 정답 제출의 공통 쓰기 경로입니다.
+ * 회원 엔티티를 읽어 경험치를 바꾸는 대신, 풀이 기록 INSERT 와 경험치/레벨 UPDATE 한 번으로 처리합니다.
+ * - 기본(quiz.write-behind.enabled=true): QuizHistoryWriteBehind 가 중복 여부를 바로 확인하고, 요청 트랜잭션이 커밋된 뒤 로그에 기록하면
+ *   저장 스레드가 모아서 배치로 반영합니다.
+ * - 비활성화 시: 요청 트랜잭션에서 바로 저장합니다. 풀이 기록을 먼저 저장하므로 같은 퀴즈를 동시에 제출하면
+ *   (member_id, quiz_id, quizType) 유니크 제약에서 한쪽만 성공하고, 경험치는 한 번만 오릅니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizSubmissionService {
+    private final MemberRepository memberRepository;
+    private final QuizHistoryService quizHistoryService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final QuizHistoryWriteBehind quizHistoryWriteBehind;
+
+    @Transactional
+    public void submit(Member actor, Long quizId, QuizType quizType, String answer, boolean isCorrect, int gainExp) {
+        if (quizHistoryWriteBehind.isEnabled()) {
+            PendingQuizHistory history = new PendingQuizHistory(
+                    actor.getId(), quizType, quizId, answer, isCorrect, gainExp, LocalDateTime.now());
+            quizHistoryWriteBehind.reserve(history); // 중복 제출은 바로 400
+
+            // 버퍼 자리 대기와 로그 fsync 는 커밋으로 DB 커넥션을 반환한 뒤 실행 (afterCommit 의 예외(503)는 호출한 쪽으로 전달됨)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    quizHistoryWriteBehind.enqueue(history);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        quizHistoryWriteBehind.cancel(history);
+                    }
+                }
+            });
+            return;
+        }
+
+        quizHistoryService.save(
+                memberRepository.getReferenceById(actor.getId()),
+                quizId,
+                quizType,
+                answer,
+                isCorrect,
+                gainExp
+        );
+
+        // 오답이면 경험치 변화가 없으므로 회원 행을 건드리지 않음
+        if (gainExp <= 0) {
+            return;
+        }
+        if (memberRepository.addExp(actor.getId(), gainExp) == 0) {
+            throw new ServiceException(404, "회원이 존재하지 않습니다.");
+        }
+        cacheInvalidationBus.publish(CacheTopic.MEMBER, actor.getId()); // 경험치 순위표 갱신
+    }
+}
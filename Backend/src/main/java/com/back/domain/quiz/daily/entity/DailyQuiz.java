@@ -13,9 +13,11 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_daily_quiz_today_news_id", columnList = "today_news_id"))
 public class DailyQuiz {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_quiz_seq_gen")
+    @SequenceGenerator(name = "daily_quiz_seq_gen", sequenceName = "daily_quiz_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -1,14 +1,13 @@
 package com.back.domain.quiz.daily.service;
 
 import com.back.domain.member.member.entity.Member;
-import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.member.quizhistory.entity.QuizHistory;
-import com.back.domain.member.quizhistory.repository.QuizHistoryRepository;
 import com.back.domain.member.quizhistory.service.QuizHistoryService;
 import com.back.domain.news.real.entity.RealNews;
 import com.back.domain.news.today.repository.TodayNewsRepository;
 import com.back.domain.news.today.entity.TodayNews;
 import com.back.domain.quiz.QuizType;
+import com.back.domain.quiz.common.service.QuizSubmissionService;
 import com.back.domain.quiz.daily.dto.DailyQuizAnswerDto;
 import com.back.domain.quiz.daily.dto.DailyQuizDto;
 import com.back.domain.quiz.daily.dto.DailyQuizWithHistoryDto;
@@ -28,7 +27,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import static com.back.global.util.LevelSystem.calculateLevel;
 
 @Service
 @RequiredArgsConstructor
@@ -36,9 +34,8 @@ import static com.back.global.util.LevelSystem.calculateLevel;
 public class DailyQuizService {
     private final DailyQuizRepository dailyQuizRepository;
     private final TodayNewsRepository todayNewsRepository;
-    private final MemberRepository memberRepository;
+    private final QuizSubmissionService quizSubmissionService;
     private final QuizHistoryService quizHistoryService;
-    private final QuizHistoryRepository quizHistoryRepository;
 
     @Transactional(readOnly = true)
     public List<DailyQuizWithHistoryDto> getDailyQuizzes(Long todayNewsId, Member actor) {
@@ -64,11 +61,8 @@ public class DailyQuizService {
     }
 
     private Map<Long, QuizHistory> getQuizHistoryMapByMemberAndQuizIds(Member member, Set<Long> quizIds) {
-        List<QuizHistory> histories = quizHistoryRepository.findByMemberAndQuizTypeAndQuizIdIn(
-                member, QuizType.DAILY, quizIds
-        );
-        return histories.stream()
-                .collect(Collectors.toMap(QuizHistory::getQuizId, h -> h));
+        // 푼 퀴즈가 없으면 풀이 기록을 조회하지 않음 (아직 DB 에 반영 전인 풀이 기록도 포함)
+        return quizHistoryService.findHistories(member, QuizType.DAILY, quizIds);
     }
 
     private DailyQuizWithHistoryDto convertToDto(DailyQuiz quiz, QuizHistory history) {
@@ -153,19 +147,12 @@ public class DailyQuizService {
         DailyQuiz dailyQuiz = dailyQuizRepository.findById(id)
                 .orElseThrow(() -> new ServiceException(404, "오늘의 퀴즈를 찾을 수 없습니다."));
 
-        Member managedActor = memberRepository.findById(actor.getId())
-                .orElseThrow(() -> new ServiceException(404, "회원이 존재하지 않습니다."));
-
         DetailQuiz detailQuiz = dailyQuiz.getDetailQuiz();
 
         boolean isCorrect = detailQuiz.isCorrect(selectedOption);
         int gainExp = isCorrect ? 20 : 0;
 
-        managedActor.setExp(managedActor.getExp() + gainExp);
-
-        managedActor.setLevel(calculateLevel(managedActor.getExp())); // 레벨 계산 로직 추가
-
-        quizHistoryService.save(managedActor, id, dailyQuiz.getQuizType(), String.valueOf(selectedOption), isCorrect, gainExp); // 퀴즈 히스토리 저장
+        quizSubmissionService.submit(actor, id, dailyQuiz.getQuizType(), String.valueOf(selectedOption), isCorrect, gainExp); // 퀴즈 히스토리 저장 + 경험치 반영
 
         return new DailyQuizAnswerDto(
                 dailyQuiz.getId(),
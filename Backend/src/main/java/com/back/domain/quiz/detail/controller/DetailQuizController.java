@@ -118,7 +118,7 @@ public class DetailQuizController {
     )
     @PostMapping("news/{newsId}/regenerate")
     public RsData<List<DetailQuizResDto>> generateDetailQuizzes(@PathVariable Long newsId) {
-        List<DetailQuizDto> newQuizzes = detailQuizService.generateQuizzes(newsId);
+        List<DetailQuizDto> newQuizzes = detailQuizService.regenerateQuizzes(newsId);
         List<DetailQuiz> savedQuizzes = detailQuizService.saveQuizzes(newsId, newQuizzes);
 
         return new RsData<>(
@@ -15,9 +15,11 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_detail_quiz_real_news_id", columnList = "real_news_id"))
 public class DetailQuiz {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "detail_quiz_seq_gen")
+    @SequenceGenerator(name = "detail_quiz_seq_gen", sequenceName = "detail_quiz_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Question can not be blank")
@@ -2,7 +2,6 @@ package com.back.domain.quiz.detail.service;
 
 import com.back.domain.quiz.detail.dto.DetailQuizDto;
 import com.back.global.exception.ServiceException;
-import io.github.bucket4j.Bucket;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,24 +13,18 @@ import java.util.List;
 @Slf4j
 public class DetailQuizRateLimitedService {
     private final DetailQuizService detailQuizService;
-    private final Bucket bucket;
 
     public List<DetailQuizDto> generatedQuizzesWithRateLimit(Long newsId) throws InterruptedException {
         int maxRetries = 5; // 최대 재시도 횟수
-        int retryDelay = 60000; // 재시도 대기 시간 (밀리초 단위)
+        int retryDelay = 5000; // 재시도 기본 대기 시간 (밀리초 단위, 시도마다 선형 증가)
 
+        // Rate limit 은 AiService 의 중앙 스케줄러가 관리하므로, 여기서는 AI 호출 오류만 재시도
         for(int i=0; i<maxRetries; i++){
-            if (!bucket.tryConsume(1)) {
-                log.warn("Rate limit 제한으로 재시도 대기중... 시도 횟수: {} - newsId: {} ", i+1, newsId);
-                Thread.sleep(retryDelay);
-                continue;
-            }
             try {
-                // Rate limit이 허용되면 AI 호출해 퀴즈 생성
                 return detailQuizService.generateQuizzes(newsId);
             } catch (Exception e) {
                 log.warn("AI 호출 중 오류 발생. 재시도합니다. 시도 횟수: {} - newsId: {}, error: {}", i+1, newsId, e.getMessage());
-                Thread.sleep(retryDelay);
+                Thread.sleep((long) retryDelay * (i + 1));
             }
         }
         log.error("퀴즈 생성 최종 실패. 뉴스 ID: {}", newsId);
@@ -1,19 +1,20 @@
 package com.back.domain.quiz.detail.service;
 
 import com.back.domain.member.member.entity.Member;
-import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.member.quizhistory.entity.QuizHistory;
-import com.back.domain.member.quizhistory.repository.QuizHistoryRepository;
 import com.back.domain.member.quizhistory.service.QuizHistoryService;
 import com.back.domain.news.real.entity.RealNews;
 import com.back.domain.news.real.repository.RealNewsRepository;
 import com.back.domain.quiz.QuizType;
+import com.back.domain.quiz.common.service.QuizSubmissionService;
 import com.back.domain.quiz.detail.dto.*;
 import com.back.domain.quiz.detail.entity.DetailQuiz;
 import com.back.domain.quiz.detail.entity.Option;
 import com.back.domain.quiz.detail.repository.DetailQuizRepository;
 import com.back.global.ai.AiService;
 import com.back.global.ai.processor.DetailQuizProcessor;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
 import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +24,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-import static com.back.global.util.LevelSystem.calculateLevel;
 
 @Service
 @RequiredArgsConstructor
@@ -34,8 +34,8 @@ public class DetailQuizService {
     private final AiService aiService;
     private final ObjectMapper objectMapper;
     private final QuizHistoryService quizHistoryService;
-    private final QuizHistoryRepository quizHistoryRepository;
-    private final MemberRepository memberRepository;
+    private final QuizSubmissionService quizSubmissionService;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public long count() {
         return detailQuizRepository.count();
@@ -50,12 +50,7 @@ public class DetailQuizService {
         //dto로 변환
         DetailQuizResDto detailQuizResDto = new DetailQuizResDto(quiz);
 
-        List<QuizHistory> histories = quizHistoryRepository.findByMember(actor);
-
-        // 필터링: 퀴즈 ID가 일치하고, 퀴즈 타입이 DETAIL인 히스토리만 추출
-        QuizHistory quizHistory = histories.stream()
-                .filter(h -> h.getQuizId().equals(id) && h.getQuizType() == QuizType.DETAIL)
-                .findFirst()
+        QuizHistory quizHistory = quizHistoryService.findHistory(actor, id, QuizType.DETAIL)
                 .orElse(null);
 
         // 퀴즈 히스토리가 없으면 null 반환
@@ -95,8 +90,17 @@ public class DetailQuizService {
     }
 
 
-    // newsId로 뉴스 조회 후 AI api 호출해 퀴즈 생성
+    // newsId로 뉴스 조회 후 AI api 호출해 퀴즈 생성 (같은 기사의 이전 AI 응답이 캐시에 있으면 재사용)
     public List<DetailQuizDto> generateQuizzes(Long newsId) {
+        return generateQuizzes(newsId, false);
+    }
+
+    // 캐시된 AI 응답을 쓰지 않고 퀴즈를 새로 생성
+    public List<DetailQuizDto> regenerateQuizzes(Long newsId) {
+        return generateQuizzes(newsId, true);
+    }
+
+    private List<DetailQuizDto> generateQuizzes(Long newsId, boolean regenerate) {
         RealNews news = realNewsRepository.findById(newsId)
                 .orElseThrow(() -> new ServiceException(404, "해당 id의 뉴스가 존재하지 않습니다. id: " + newsId));
 
@@ -105,9 +109,10 @@ public class DetailQuizService {
                 news.getContent()
         );
 
-        DetailQuizProcessor processor = new DetailQuizProcessor(req, objectMapper);
+        DetailQuizProcessor processor = new DetailQuizProcessor(req, objectMapper, quiz -> {}, regenerate);
 
-        return aiService.process(processor);
+        // 형식이 잘못된 응답은 생성이 끝나기 전에 중단됨
+        return aiService.processStream(processor);
     }
 
     // 생성한 퀴즈 DB에 저장
@@ -128,6 +133,7 @@ public class DetailQuizService {
 
         news.getDetailQuizzes().addAll(savedQuizzes);
         realNewsRepository.save(news); // RealNews 엔티티 저장 (CascadeType.ALL로 인해 DetailQuiz도 함께 저장됨)
+        cacheInvalidationBus.publish(CacheTopic.DETAIL_QUIZ, newsId);
 
         return savedQuizzes;
     }
@@ -144,6 +150,7 @@ public class DetailQuizService {
         quiz.setOption3(detailQuizDto.option3());
         quiz.setCorrectOption(detailQuizDto.correctOption());
 
+        cacheInvalidationBus.publish(CacheTopic.DETAIL_QUIZ, quiz.getRealNews().getId());
         return detailQuizRepository.save(quiz);
     }
 
@@ -153,19 +160,12 @@ public class DetailQuizService {
         DetailQuiz quiz = detailQuizRepository.findById(id)
                 .orElseThrow(() -> new ServiceException(404, "해당 id의 상세 퀴즈가 존재하지 않습니다. id: " + id));
 
-        Member managedActor = memberRepository.findById(actor.getId())
-                .orElseThrow(() -> new ServiceException(404, "회원이 존재하지 않습니다."));
-
         boolean isCorrect = quiz.isCorrect(selectedOption);
 
         int gainExp = isCorrect ? 10 : 0; // 정답 제출 시 경험치 10점 부여
 
 
-        managedActor.setExp(managedActor.getExp() + gainExp);
-
-        managedActor.setLevel(calculateLevel(managedActor.getExp())); // 레벨 계산 로직 추가
-
-        quizHistoryService.save(managedActor, id, quiz.getQuizType(), String.valueOf(selectedOption), isCorrect, gainExp); // 퀴즈 히스토리 저장
+        quizSubmissionService.submit(actor, id, quiz.getQuizType(), String.valueOf(selectedOption), isCorrect, gainExp); // 퀴즈 히스토리 저장 + 경험치 반영
 
         return new DetailQuizAnswerDto(
                 quiz.getId(),
@@ -17,9 +17,11 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_fact_quiz_real_news_id", columnList = "real_news_id"))
 public class FactQuiz {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fact_quiz_seq_gen")
+    @SequenceGenerator(name = "fact_quiz_seq_gen", sequenceName = "fact_quiz_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Question can not be blank")
@@ -2,6 +2,7 @@ package com.back.domain.quiz.fact.repository;
 
 import com.back.domain.news.common.enums.NewsCategory;
 import com.back.domain.news.real.entity.RealNews;
+import com.back.domain.quiz.fact.dto.FactQuizDto;
 import com.back.domain.quiz.fact.entity.FactQuiz;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -51,5 +52,29 @@ public interface FactQuizRepository extends JpaRepository<FactQuiz, Long> {
     //추가
     Optional<FactQuiz> findByRealNewsId(Long realNewsId);
 
+    // 카테고리별 N번째 뉴스의 퀴즈 목록 (real_news.category_rank 인덱스 + 조인 한 번으로 조회)
+    @Query("""
+            SELECT new com.back.domain.quiz.fact.dto.FactQuizDto(fq.id, fq.question, rn.title)
+            FROM FactQuiz fq
+            JOIN fq.realNews rn
+            WHERE rn.categoryRank = :rank
+            ORDER BY rn.createdDate DESC, fq.id
+            """)
+    List<FactQuizDto> findDtosByNewsRank(@Param("rank") int rank);
+
+    @Query("""
+            SELECT new com.back.domain.quiz.fact.dto.FactQuizDto(fq.id, fq.question, rn.title)
+            FROM FactQuiz fq
+            JOIN fq.realNews rn
+            WHERE rn.newsCategory = :category
+              AND rn.categoryRank = :rank
+            ORDER BY fq.id
+            """)
+    List<FactQuizDto> findDtosByCategoryAndNewsRank(@Param("category") NewsCategory category, @Param("rank") int rank);
+
+    // 공개 조회 응답의 ETag 계산용
+    @Query("SELECT MAX(fq.id) FROM FactQuiz fq")
+    Optional<Long> findMaxId();
+
 
 }
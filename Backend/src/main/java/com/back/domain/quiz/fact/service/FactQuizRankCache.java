@@ -0,0 +1,63 @@
+package com.back.domain.quiz.fact.service;
+
+import com.back.domain.quiz.fact.dto.FactQuizDto;
+import com.back.domain.quiz.fact.repository.FactQuizRepository;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 순위별 팩트 퀴즈 목록(홈 화면의 카테고리별 OX 퀴즈)을 메모리에 보관하는 캐시입니다.
+ * 퀴즈 생성/삭제(FACT_QUIZ)와 뉴스 추가/삭제로 순위가 바뀔 때(REAL_NEWS) CacheInvalidationBus 를 통해 모든 노드에서 비웁니다.
+ * 조회 중 무효화가 일어나면 방금 읽은 (이전) 값은 캐시에 넣지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FactQuizRankCache {
+    private final FactQuizRepository factQuizRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final Map<Integer, List<FactQuizDto>> byRank = new ConcurrentHashMap<>();
+    private long generation = 0; // invalidate 횟수, this 로 동기화
+
+    public List<FactQuizDto> get(int rank) {
+        List<FactQuizDto> cached = byRank.get(rank);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadingGeneration;
+        synchronized (this) {
+            loadingGeneration = generation;
+        }
+
+        List<FactQuizDto> loaded = List.copyOf(factQuizRepository.findDtosByNewsRank(rank));
+
+        synchronized (this) {
+            if (generation == loadingGeneration) {
+                byRank.put(rank, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        byRank.clear();
+        log.debug("팩트 퀴즈 순위 캐시 무효화");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.subscribe(CacheTopic.FACT_QUIZ, key -> invalidate());
+        cacheInvalidationBus.subscribe(CacheTopic.REAL_NEWS, key -> invalidate());
+    }
+}
@@ -1,15 +1,15 @@
 package com.back.domain.quiz.fact.service;
 
 import com.back.domain.member.member.entity.Member;
-import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.member.quizhistory.entity.QuizHistory;
-import com.back.domain.member.quizhistory.repository.QuizHistoryRepository;
 import com.back.domain.member.quizhistory.service.QuizHistoryService;
 import com.back.domain.news.common.enums.NewsCategory;
 import com.back.domain.news.fake.entity.FakeNews;
 import com.back.domain.news.real.entity.RealNews;
 import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.domain.news.real.service.RealNewsRankService;
 import com.back.domain.quiz.QuizType;
+import com.back.domain.quiz.common.service.QuizSubmissionService;
 import com.back.domain.quiz.fact.dto.FactQuizAnswerDto;
 import com.back.domain.quiz.fact.dto.FactQuizDto;
 import com.back.domain.quiz.fact.dto.FactQuizDtoWithNewsContent;
@@ -17,6 +17,8 @@ import com.back.domain.quiz.fact.dto.FactQuizWithHistoryDto;
 import com.back.domain.quiz.fact.entity.CorrectNewsType;
 import com.back.domain.quiz.fact.entity.FactQuiz;
 import com.back.domain.quiz.fact.repository.FactQuizRepository;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,7 +30,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
-import static com.back.global.util.LevelSystem.calculateLevel;
 
 @Service
 @RequiredArgsConstructor
@@ -36,20 +37,16 @@ import static com.back.global.util.LevelSystem.calculateLevel;
 public class FactQuizService {
     private final FactQuizRepository factQuizRepository;
     private final RealNewsRepository realNewsRepository;
-    private final MemberRepository memberRepository;
+    private final QuizSubmissionService quizSubmissionService;
     private final QuizHistoryService quizHistoryService;
-    private final QuizHistoryRepository quizHistoryRepository;
+    private final RealNewsRankService realNewsRankService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final FactQuizRankCache factQuizRankCache;
 
-    @Transactional(readOnly = true)
+    // 카테고리별 rank 번째 뉴스의 퀴즈 목록 (홈 화면에서 매번 호출되므로 캐시에서 반환)
     public List<FactQuizDto> findByRank(int rank) {
-        List<RealNews> nthRankNews = realNewsRepository.findNthRankByAllCategories(rank);
-
-        // 해당 뉴스들의 FactQuiz 조회
-        return nthRankNews.stream()
-                .map(realNews -> factQuizRepository.findByRealNewsId(realNews.getId()))
-                .flatMap(Optional::stream)
-                .map(FactQuizDto::new)
-                .toList();
+        realNewsRankService.requireTracked(rank);
+        return factQuizRankCache.get(rank);
     }
 
     @Transactional(readOnly = true)
@@ -63,15 +60,9 @@ public class FactQuizService {
 
     @Transactional(readOnly = true)
     public Optional<FactQuizDto> findByCategoryAndRank(NewsCategory category, int rank) {
-        Optional<RealNews> realNews = realNewsRepository.findNthRankByCategory(category, rank);
-
-        if (realNews.isEmpty()) {
-            return Optional.empty();
-        }
-
-        return factQuizRepository.findByRealNewsId(realNews.get().getId())
-                .map(FactQuizDto::new);
-
+        realNewsRankService.requireTracked(rank);
+        return factQuizRepository.findDtosByCategoryAndNewsRank(category, rank).stream()
+                .findFirst();
     }
 
     @Transactional(readOnly = true)
@@ -81,12 +72,7 @@ public class FactQuizService {
 
         FactQuizDtoWithNewsContent factQuizDto = new FactQuizDtoWithNewsContent(factQuiz);
 
-        List<QuizHistory> histories = quizHistoryRepository.findByMember(actor);
-
-        // 필터링: 퀴즈 ID가 일치하고, 퀴즈 타입이 FACT인 히스토리만 추출
-        QuizHistory quizHistory = histories.stream()
-                .filter(h -> h.getQuizId().equals(id) && h.getQuizType() == QuizType.FACT)
-                .findFirst()
+        QuizHistory quizHistory = quizHistoryService.findHistory(actor, id, QuizType.FACT)
                 .orElse(null);
 
         // 퀴즈 히스토리가 없으면 null 반환
@@ -134,6 +120,7 @@ public class FactQuizService {
         }
 
         factQuizRepository.saveAll(quizzes);
+        cacheInvalidationBus.publish(CacheTopic.FACT_QUIZ, null);
         log.info("퀴즈 {}개 저장 완료", quizzes.size());
     }
 
@@ -144,6 +131,7 @@ public class FactQuizService {
                 .orElseThrow(() -> new ServiceException(404, "팩트 퀴즈를 찾을 수 없습니다. ID: " + id));
 
         factQuizRepository.delete(quiz);
+        cacheInvalidationBus.publish(CacheTopic.FACT_QUIZ, id);
     }
 
     public long count() {
@@ -163,6 +151,7 @@ public class FactQuizService {
         //real.getFactQuizzes().add(quiz);
         //fake.getFactQuizzes().add(quiz);
         factQuizRepository.save(quiz);
+        cacheInvalidationBus.publish(CacheTopic.FACT_QUIZ, null);
 
         log.debug("팩트 퀴즈 생성 완료. 퀴즈 ID: {}, 뉴스 ID: {}", quiz.getId(), real.getId());
     }
@@ -186,18 +175,11 @@ public class FactQuizService {
         FactQuiz factQuiz = factQuizRepository.findById(id)
                 .orElseThrow(() -> new ServiceException(404, "팩트 퀴즈를 찾을 수 없습니다"));
 
-        Member managedActor = memberRepository.findById(actor.getId())
-                .orElseThrow(() -> new ServiceException(404, "회원이 존재하지 않습니다."));
-
         boolean isCorrect = factQuiz.getCorrectNewsType() == selectedNewsType;
         int gainExp = isCorrect ? 10 : 0;
 
-        managedActor.setExp(managedActor.getExp() + gainExp);
-
-        managedActor.setLevel(calculateLevel(managedActor.getExp())); // 레벨 계산 로직 추가
-
-        quizHistoryService.save(
-                managedActor,
+        quizSubmissionService.submit(
+                actor,
                 id,
                 factQuiz.getQuizType(),
                 String.valueOf(selectedNewsType),
@@ -0,0 +1,12 @@
+package com.back.global.ai;
+
+/**
+ * AI 요청 스케줄러의 우선순위 등급입니다.
+ * 선언 순서가 곧 우선순위이며, 앞에 선언된 등급이 먼저 쿼터를 할당받습니다.
+ */
+public enum AiRequestPriority {
+    KEYWORD_GENERATION, // 키워드 생성 (파이프라인 시작점)
+    NEWS_ANALYSIS,      // 뉴스 분석 및 필터링
+    FAKE_NEWS,          // 가짜 뉴스 생성
+    DETAIL_QUIZ         // 상세 퀴즈 생성
+}
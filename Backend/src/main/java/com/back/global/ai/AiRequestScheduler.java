@@ -0,0 +1,158 @@
+package com.back.global.ai;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.EstimationProbe;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini 쿼터를 공유하는 모든 AI 요청의 중앙 스케줄러입니다.
+ * - 분당 요청 수(RPM)와 분당 토큰 수(TPM) 두 버킷을 함께 확인한 뒤 요청을 통과시킵니다.
+ * - 대기열은 우선순위(AiRequestPriority) → 도착 순서로 정렬되어, 높은 등급의 요청이 먼저 쿼터를 받습니다.
+ * - 쿼터가 부족하면 두 버킷 중 더 늦게 채워지는 시점에 정확히 깨어나 다음 요청을 처리합니다.
+ *
+ * acquire()가 반환하는 future 는 스케줄러 스레드에서 완료될 수 있으므로, AI 호출은 별도 Executor 에서 실행해주세요.
+ */
+@Slf4j
+@Component
+public class AiRequestScheduler {
+    private final Bucket requestBucket;
+    private final Bucket tokenBucket;
+    private final long tokensPerMinute;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong sequence = new AtomicLong();
+    private final PriorityQueue<Ticket> waiters = new PriorityQueue<>(
+            Comparator.comparing(Ticket::priority).thenComparingLong(Ticket::seq)); // guarded by this
+    private ScheduledFuture<?> pendingWakeup; // guarded by this
+    private long pendingWakeupAt; // guarded by this
+
+    public AiRequestScheduler(
+            @Value("${ai.quota.requests-per-minute:12}") long requestsPerMinute,
+            @Value("${ai.quota.tokens-per-minute:250000}") long tokensPerMinute
+    ) {
+        this.tokensPerMinute = tokensPerMinute;
+        this.requestBucket = Bucket.builder()
+                .addLimit(limit -> limit.capacity(requestsPerMinute).refillGreedy(requestsPerMinute, Duration.ofMinutes(1)))
+                .build();
+        this.tokenBucket = Bucket.builder()
+                .addLimit(limit -> limit.capacity(tokensPerMinute).refillGreedy(tokensPerMinute, Duration.ofMinutes(1)))
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "aiRequest-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 요청 1건과 estimatedTokens 만큼의 토큰 쿼터를 요청합니다.
+     *
+     * @param priority 요청 우선순위
+     * @param estimatedTokens 요청에 소모될 것으로 예상되는 토큰 수 (입력 + 출력)
+     * @return 쿼터를 할당받으면 완료되는 future (cancel 하면 대기열에서 제거됨)
+     */
+    public CompletableFuture<Void> acquire(AiRequestPriority priority, long estimatedTokens) {
+        // TPM 한도보다 큰 요청이 영원히 대기하지 않도록 보정
+        long tokens = Math.max(1, Math.min(estimatedTokens, tokensPerMinute));
+        Ticket ticket = new Ticket(priority, sequence.getAndIncrement(), tokens, new CompletableFuture<>());
+
+        synchronized (this) {
+            waiters.add(ticket);
+        }
+
+        ticket.future().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                synchronized (this) {
+                    waiters.remove(ticket);
+                }
+            }
+        });
+
+        dispatch();
+        return ticket.future();
+    }
+
+    // 현재 쿼터를 기다리는 요청 수
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    private void dispatch() {
+        List<Ticket> granted = new ArrayList<>();
+
+        synchronized (this) {
+            while (!waiters.isEmpty()) {
+                Ticket head = waiters.peek();
+                if (head.future().isDone()) {
+                    waiters.poll();
+                    continue;
+                }
+
+                EstimationProbe requestProbe = requestBucket.estimateAbilityToConsume(1);
+                EstimationProbe tokenProbe = tokenBucket.estimateAbilityToConsume(head.tokens());
+                if (!requestProbe.canBeConsumed() || !tokenProbe.canBeConsumed()) {
+                    scheduleWakeup(Math.max(requestProbe.getNanosToWaitForRefill(), tokenProbe.getNanosToWaitForRefill()));
+                    break;
+                }
+
+                // 버킷은 이 스케줄러만 사용하므로 추정 직후 소비는 항상 성공
+                requestBucket.tryConsume(1);
+                tokenBucket.tryConsume(head.tokens());
+                waiters.poll();
+                granted.add(head);
+            }
+        }
+
+        for (Ticket ticket : granted) {
+            if (!ticket.future().complete(null)) {
+                // 그 사이 취소된 요청의 쿼터는 반환
+                requestBucket.addTokens(1);
+                tokenBucket.addTokens(ticket.tokens());
+            } else {
+                log.debug("AI 쿼터 할당 - 우선순위: {}, 예상 토큰: {}", ticket.priority(), ticket.tokens());
+            }
+        }
+    }
+
+    private void scheduleWakeup(long nanosToWait) {
+        long wakeupAt = System.nanoTime() + nanosToWait;
+        if (pendingWakeup != null && !pendingWakeup.isDone()) {
+            if (pendingWakeupAt - wakeupAt <= 0) {
+                return; // 이미 더 이른 시점에 깨어나도록 예약되어 있음
+            }
+            // 더 작은 요청이 앞에 끼어든 경우, 그 요청이 가능한 시점으로 앞당김
+            pendingWakeup.cancel(false);
+        }
+        pendingWakeupAt = wakeupAt;
+        pendingWakeup = scheduler.schedule(this::onWakeup, nanosToWait, TimeUnit.NANOSECONDS);
+    }
+
+    private void onWakeup() {
+        synchronized (this) {
+            pendingWakeup = null;
+        }
+        dispatch();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private record Ticket(
+            AiRequestPriority priority,
+            long seq,
+            long tokens,
+            CompletableFuture<Void> future
+    ) {}
+}
@@ -0,0 +1,204 @@
+package com.back.global.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * AI 응답 원문을 로컬 디스크에 저장하는 캐시입니다.
+ * - 키는 프로세서 종류 + 프롬프트 + 모델 옵션의 SHA-256 해시이므로, 같은 요청은 같은 응답을 재사용합니다.
+ * - 항목은 ttl 이 지나면 무효가 되고, 전체 크기가 maxBytes 를 넘으면 가장 오래 사용되지 않은 항목부터 삭제합니다.
+ * - 캐시 조회 결과는 ai.cache.requests{result=hit|miss} 지표로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class AiResponseCache {
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration ttl;
+    private final long maxBytes;
+    private final String modelOptions;
+
+    private final Map<String, Entry> index = new ConcurrentHashMap<>(); // 파일 크기와 마지막 사용 시각
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public AiResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.enabled:true}") boolean enabled,
+            @Value("${ai.cache.dir:./data/ai-cache}") String directory,
+            @Value("${ai.cache.ttl-hours:72}") long ttlHours,
+            @Value("${ai.cache.max-size-mb:100}") long maxSizeMb,
+            @Value("${spring.ai.openai.chat.options.model:}") String model,
+            @Value("${spring.ai.openai.chat.options.temperature:}") String temperature
+    ) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.maxBytes = maxSizeMb * 1024 * 1024;
+        this.modelOptions = "model=" + model + ";temperature=" + temperature;
+    }
+
+    // 재시작 후에도 기존 캐시 파일을 사용할 수 있도록 인덱스 복원
+    @PostConstruct
+    public void loadIndex() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> file.toString().endsWith(".json")).forEach(file -> {
+                    try {
+                        long size = Files.size(file);
+                        index.put(keyOf(file), new Entry(size, Files.getLastModifiedTime(file).toMillis()));
+                        totalBytes.addAndGet(size);
+                    } catch (IOException e) {
+                        log.debug("AI 캐시 파일 읽기 실패: {}", file);
+                    }
+                });
+            }
+            log.info("AI 응답 캐시 로드 - {}개, {}KB", index.size(), totalBytes.get() / 1024);
+        } catch (IOException e) {
+            log.warn("AI 응답 캐시 디렉토리 초기화 실패: {}", directory, e);
+        }
+    }
+
+    public String key(String processorType, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(processorType.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(modelOptions.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public Optional<String> get(String processorType, String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Optional<String> cached = read(key);
+        count(processorType, cached.isPresent() ? "hit" : "miss");
+        return cached;
+    }
+
+    public void put(String key, String responseText) {
+        if (!enabled) {
+            return;
+        }
+        Path file = pathOf(key);
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(new CachedResponse(Instant.now().toEpochMilli(), responseText));
+            Files.write(file, bytes);
+
+            Entry previous = index.put(key, new Entry(bytes.length, System.currentTimeMillis()));
+            totalBytes.addAndGet(bytes.length - (previous != null ? previous.size() : 0));
+            evictIfNeeded();
+        } catch (IOException e) {
+            log.warn("AI 응답 캐시 저장 실패: {}", key, e);
+        }
+    }
+
+    // 파싱할 수 없는 응답이 캐시된 경우 제거
+    public void evict(String key) {
+        remove(key);
+    }
+
+    private Optional<String> read(String key) {
+        if (!index.containsKey(key)) {
+            return Optional.empty();
+        }
+        Path file = pathOf(key);
+        try {
+            CachedResponse cached = objectMapper.readValue(file.toFile(), CachedResponse.class);
+            if (Instant.ofEpochMilli(cached.createdAt()).plus(ttl).isBefore(Instant.now())) {
+                remove(key);
+                return Optional.empty();
+            }
+
+            index.computeIfPresent(key, (k, entry) -> new Entry(entry.size(), System.currentTimeMillis()));
+            return Optional.ofNullable(cached.text());
+        } catch (IOException e) {
+            log.debug("AI 캐시 파일 읽기 실패, 삭제: {}", file);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    // 가장 오래 사용되지 않은 항목부터 삭제
+    private synchronized void evictIfNeeded() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        index.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess()))
+                .map(Map.Entry::getKey)
+                .toList()
+                .stream()
+                .takeWhile(key -> totalBytes.get() > maxBytes)
+                .forEach(this::remove);
+    }
+
+    private void remove(String key) {
+        Entry removed = index.remove(key);
+        if (removed != null) {
+            totalBytes.addAndGet(-removed.size());
+        }
+        try {
+            Files.deleteIfExists(pathOf(key));
+        } catch (IOException e) {
+            log.debug("AI 캐시 파일 삭제 실패: {}", key);
+        }
+    }
+
+    private void count(String processorType, String result) {
+        Counter.builder("ai.cache.requests")
+                .tag("processor", processorType)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Path pathOf(String key) {
+        return directory.resolve(key + ".json");
+    }
+
+    private String keyOf(Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.length() - ".json".length());
+    }
+
+    private record Entry(long size, long lastAccess) {}
+
+    private record CachedResponse(long createdAt, String text) {}
+}
@@ -3,24 +3,49 @@ package com.back.global.ai;
 import com.back.domain.quiz.detail.dto.DetailQuizCreateReqDto;
 import com.back.domain.quiz.detail.dto.DetailQuizDto;
 import com.back.global.ai.processor.AiRequestProcessor;
+import com.back.global.ai.processor.AiStreamingProcessor;
 import com.back.global.ai.processor.DetailQuizProcessor;
+import com.back.global.ai.stream.AiStreamParser;
+import com.back.global.async.Bulkhead;
+import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiService {
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
+    private final AiRequestScheduler aiRequestScheduler;
+    private final AiResponseCache aiResponseCache;
+
+    @Autowired
+    @Qualifier("aiBulkhead")
+    private Bulkhead aiBulkhead;
 
     /**
      * 공통 AI 요청을 처리하는 메서드입니다.
      * 프롬프트 생성 및 응답 파싱 로직을 AiRequestProcessor 구현체에 위임합니다.
+     * 캐시된 응답이 있으면 바로 반환하고, 없으면 AiRequestScheduler 에서 쿼터를 할당받을 때까지 대기합니다.
      *
      * @param processor 프롬프트 생성 및 응답 파싱을 담당하는 프로세서 객체
      * @param <T> 프로세서가 반환하는 타입(List<DTO> 또는 단일 DTO)
@@ -29,11 +54,186 @@ public class AiService {
     public <T> T process(AiRequestProcessor<T> processor) {
         String prompt = processor.buildPrompt(); // 프롬프트 생성
 
-        ChatResponse response = chatClient.prompt(prompt)
+        Optional<T> cached = fromCache(processor, prompt);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        try {
+            acquireQuota(processor, prompt).join();
+        } catch (CompletionException | CancellationException e) {
+            throw new ServiceException(503, "AI 요청 쿼터 대기 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        return call(processor, prompt);
+    }
+
+    /**
+     * 쿼터 대기 중에는 스레드를 점유하지 않고, 쿼터를 할당받은 뒤 executor 에서 AI 요청을 처리합니다.
+     *
+     * @param processor 프롬프트 생성 및 응답 파싱을 담당하는 프로세서 객체
+     * @param executor AI 호출과 응답 파싱을 실행할 Executor
+     * @return AI 응답 결과를 파싱한 객체를 담은 future
+     */
+    public <T> CompletableFuture<T> processAsync(AiRequestProcessor<T> processor, Executor executor) {
+        String prompt = processor.buildPrompt();
+
+        Optional<T> cached = fromCache(processor, prompt);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return acquireQuota(processor, prompt)
+                .thenApplyAsync(ignored -> call(processor, prompt), executor);
+    }
+
+    /**
+     * 응답을 스트리밍으로 받아 프로세서의 파서에 조각 단위로 전달합니다.
+     * 생성 중 스레드를 점유하지 않으며, 파서가 형식 오류를 발견하면 스트림을 취소해 나머지 생성을 기다리지 않습니다.
+     *
+     * @param processor 프롬프트 생성 및 스트리밍 파싱을 담당하는 프로세서 객체
+     * @return 스트림이 끝난 뒤 파싱된 결과를 담은 future
+     */
+    public <T> CompletableFuture<T> processStreamAsync(AiStreamingProcessor<T> processor) {
+        String prompt = processor.buildPrompt();
+
+        Optional<T> cached = fromCache(processor, prompt);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return acquireQuota(processor, prompt)
+                .thenCompose(ignored -> stream(processor, prompt));
+    }
+
+    // processStreamAsync 의 동기 버전
+    public <T> T processStream(AiStreamingProcessor<T> processor) {
+        try {
+            return processStreamAsync(processor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServiceException(500, "AI 스트리밍 처리 중 오류가 발생했습니다: " + e.getMessage());
+        } catch (CancellationException e) {
+            throw new ServiceException(503, "AI 요청이 취소되었습니다");
+        }
+    }
+
+    private <T> CompletableFuture<T> stream(AiStreamingProcessor<T> processor, String prompt) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<Disposable> subscription = new AtomicReference<>();
+
+        // 스트리밍도 Gemini 동시 호출 수 제한을 따르도록, 스레드를 점유하지 않고 벌크헤드 허가를 기다린 뒤 구독
+        CompletableFuture<Void> permit = aiBulkhead.acquireAsync();
+        permit.thenRun(() -> {
+            if (result.isDone()) {
+                aiBulkhead.release(); // 허가를 기다리는 동안 취소된 요청
+                return;
+            }
+            subscription.set(subscribe(processor, prompt, result));
+        });
+
+        // 호출한 쪽에서 취소하면 허가 대기나 생성도 중단
+        result.whenComplete((parsed, throwable) -> {
+            if (result.isCancelled()) {
+                permit.cancel(false);
+                Disposable disposable = subscription.get();
+                if (disposable != null) {
+                    disposable.dispose();
+                }
+            }
+        });
+        return result;
+    }
+
+    // 허가를 받은 상태에서 호출되며, 스트림이 끝나거나(완료/오류) 취소되면 허가를 반환
+    private <T> Disposable subscribe(AiStreamingProcessor<T> processor, String prompt, CompletableFuture<T> result) {
+        AiStreamParser<T> parser = processor.newStreamParser();
+        StringBuilder text = new StringBuilder(); // 캐시 저장용 원문
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                aiBulkhead.release();
+            }
+        };
+
+        try {
+            // onNext 에서 예외가 발생하면 Reactor 가 구독을 취소하고 onError 를 호출
+            return chatClient.prompt(prompt)
+                    .stream()
+                    .content()
+                    .doFinally(signal -> release.run())
+                    .subscribe(
+                            chunk -> {
+                                text.append(chunk);
+                                parser.onChunk(chunk);
+                            },
+                            throwable -> {
+                                log.warn("AI 스트리밍 중단 - {}: {}", typeOf(processor), throwable.getMessage());
+                                result.completeExceptionally(throwable);
+                            },
+                            () -> {
+                                try {
+                                    T parsed = parser.complete();
+                                    if (processor.cacheable()) {
+                                        aiResponseCache.put(aiResponseCache.key(typeOf(processor), prompt), text.toString());
+                                    }
+                                    result.complete(parsed);
+                                } catch (Exception e) {
+                                    result.completeExceptionally(e);
+                                }
+                            });
+        } catch (RuntimeException e) {
+            release.run(); // 구독 전에 실패한 경우
+            result.completeExceptionally(e);
+            return null;
+        }
+    }
+
+    private CompletableFuture<Void> acquireQuota(AiRequestProcessor<?> processor, String prompt) {
+        long estimatedTokens = AiTokenEstimator.estimate(prompt) + processor.estimateOutputTokens();
+        return aiRequestScheduler.acquire(processor.priority(), estimatedTokens);
+    }
+
+    private <T> T call(AiRequestProcessor<T> processor, String prompt) {
+        // 쿼터와 별개로 Gemini 에 동시에 나가는 요청 수 제한
+        ChatResponse response = aiBulkhead.execute(() -> chatClient.prompt(prompt)
                 .call()
-                .chatResponse();
+                .chatResponse());
+
+        T result = processor.parseResponse(response); // AI 응답 파싱
+
+        // 파싱에 성공한 응답만 캐시
+        if (processor.cacheable()) {
+            aiResponseCache.put(aiResponseCache.key(typeOf(processor), prompt), response.getResult().getOutput().getText());
+        }
+        return result;
+    }
+
+    private <T> Optional<T> fromCache(AiRequestProcessor<T> processor, String prompt) {
+        if (!processor.cacheable() || processor.refreshCache()) {
+            return Optional.empty();
+        }
+
+        String key = aiResponseCache.key(typeOf(processor), prompt);
+        Optional<String> cachedText = aiResponseCache.get(typeOf(processor), key);
+        if (cachedText.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            ChatResponse response = new ChatResponse(List.of(new Generation(new AssistantMessage(cachedText.get()))));
+            return Optional.of(processor.parseResponse(response));
+        } catch (Exception e) {
+            log.warn("캐시된 AI 응답 파싱 실패, 다시 요청합니다: {}", e.getMessage());
+            aiResponseCache.evict(key);
+            return Optional.empty();
+        }
+    }
 
-        return processor.parseResponse(response); // AI 응답 파싱
+    private String typeOf(AiRequestProcessor<?> processor) {
+        return processor.getClass().getSimpleName();
     }
 
     // 테스트용 메서드로, 실제 서비스에서는 이용되지 않습니다.
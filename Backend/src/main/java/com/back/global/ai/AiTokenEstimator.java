@@ -0,0 +1,29 @@
+package com.back.global.ai;
+
+/**
+ * 프롬프트 길이로부터 토큰 수를 대략적으로 추정하는 유틸 클래스입니다.
+ * 정확한 토크나이저 대신, 한글 등 비 ASCII 문자는 1자당 1토큰, ASCII 문자는 4자당 1토큰으로 보수적으로 계산합니다.
+ */
+public class AiTokenEstimator {
+
+    private AiTokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int asciiCount = 0;
+        int nonAsciiCount = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                asciiCount++;
+            } else {
+                nonAsciiCount++;
+            }
+        }
+
+        return nonAsciiCount + (asciiCount + 3) / 4;
+    }
+}
@@ -1,5 +1,6 @@
 package com.back.global.ai.processor;
 
+import com.back.global.ai.AiRequestPriority;
 import org.springframework.ai.chat.model.ChatResponse;
 
 /**
@@ -13,4 +14,20 @@ import org.springframework.ai.chat.model.ChatResponse;
 public interface AiRequestProcessor<T> {
     String buildPrompt(); // 요청 프롬프트 생성
     T parseResponse(ChatResponse response); // 응답 파싱
+    AiRequestPriority priority(); // AiRequestScheduler 에서 사용할 우선순위
+
+    // 응답으로 생성될 것으로 예상되는 토큰 수 (분당 토큰 쿼터 계산용)
+    default int estimateOutputTokens() {
+        return 1024;
+    }
+
+    // 같은 프롬프트의 응답을 AiResponseCache 에 저장해 재사용할지 여부
+    default boolean cacheable() {
+        return false;
+    }
+
+    // true 이면 캐시된 응답을 쓰지 않고 새로 요청한 뒤, 새 응답으로 캐시를 덮어씀 (다시 생성 요청 등)
+    default boolean refreshCache() {
+        return false;
+    }
 }
@@ -0,0 +1,12 @@
+package com.back.global.ai.processor;
+
+import com.back.global.ai.stream.AiStreamParser;
+
+/**
+ * 응답을 스트리밍으로 받아 점진적으로 파싱할 수 있는 프로세서입니다.
+ * AiService.processStream 으로 호출하면 응답이 도착하는 대로 newStreamParser 가 만든 파서에 전달됩니다.
+ * 캐시된 응답이나 일반 호출(process)에서는 기존 parseResponse 가 사용됩니다.
+ */
+public interface AiStreamingProcessor<T> extends AiRequestProcessor<T> {
+    AiStreamParser<T> newStreamParser(); // 요청마다 새 파서 생성
+}
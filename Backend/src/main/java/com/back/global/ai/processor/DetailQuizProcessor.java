@@ -2,22 +2,40 @@ package com.back.global.ai.processor;
 
 import com.back.domain.quiz.detail.dto.DetailQuizDto;
 import com.back.domain.quiz.detail.dto.DetailQuizCreateReqDto;
+import com.back.global.ai.AiRequestPriority;
+import com.back.global.ai.stream.AiStreamParser;
+import com.back.global.ai.stream.JsonArrayStreamParser;
 import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.ai.chat.model.ChatResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 뉴스 제목과 본문을 기반 상세 퀴즈 3개를 생성하는 AI 요청 Processor 입니다.
  */
-public class DetailQuizProcessor implements AiRequestProcessor<List<DetailQuizDto>> {
+public class DetailQuizProcessor implements AiStreamingProcessor<List<DetailQuizDto>> {
+    private static final int QUIZ_COUNT = 3;
+
     private final DetailQuizCreateReqDto req;
     private final ObjectMapper objectMapper;
+    private final Consumer<DetailQuizDto> onQuiz; // 스트리밍 중 퀴즈 하나가 완성될 때마다 호출
+    private final boolean regenerate; // true 이면 캐시된 응답 대신 새로 생성
 
     public DetailQuizProcessor(DetailQuizCreateReqDto req, ObjectMapper objectMapper) {
+        this(req, objectMapper, quiz -> {});
+    }
+
+    public DetailQuizProcessor(DetailQuizCreateReqDto req, ObjectMapper objectMapper, Consumer<DetailQuizDto> onQuiz) {
+        this(req, objectMapper, onQuiz, false);
+    }
+
+    public DetailQuizProcessor(DetailQuizCreateReqDto req, ObjectMapper objectMapper, Consumer<DetailQuizDto> onQuiz, boolean regenerate) {
         this.req = req;
         this.objectMapper = objectMapper;
+        this.onQuiz = onQuiz;
+        this.regenerate = regenerate;
     }
 
     // 뉴스 제목과 본문을 바탕으로 퀴즈 생성용 프롬프트 생성 (응답 형식을 JSON 형식으로 작성)
@@ -84,6 +102,63 @@ public class DetailQuizProcessor implements AiRequestProcessor<List<DetailQuizDt
                 """, req.title(), req.content());
     }
 
+    @Override
+    public AiRequestPriority priority() {
+        return AiRequestPriority.DETAIL_QUIZ;
+    }
+
+    // 같은 기사로 퀴즈를 다시 생성하는 경우 이전 응답 재사용
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+
+    // 관리자가 다시 생성을 요청한 경우 이전 응답을 쓰지 않고 새 응답으로 캐시를 교체
+    @Override
+    public boolean refreshCache() {
+        return regenerate;
+    }
+
+    // 퀴즈 객체가 완성될 때마다 검증하고, 개수를 넘거나 필드가 비면 나머지 생성을 기다리지 않고 중단
+    @Override
+    public AiStreamParser<List<DetailQuizDto>> newStreamParser() {
+        JsonArrayStreamParser<DetailQuizDto> parser = new JsonArrayStreamParser<>(objectMapper, DetailQuizDto.class, new Consumer<>() {
+            private int count = 0;
+
+            @Override
+            public void accept(DetailQuizDto quiz) {
+                if (++count > QUIZ_COUNT) {
+                    throw new ServiceException(500, "뉴스 하나당 3개의 퀴즈가 생성되어야 합니다. 생성된 수: " + count);
+                }
+                if (isBlank(quiz.question()) || isBlank(quiz.option1()) || isBlank(quiz.option2())
+                        || isBlank(quiz.option3()) || quiz.correctOption() == null) {
+                    throw new ServiceException(500, "퀴즈 필드가 누락되었습니다: " + quiz);
+                }
+                onQuiz.accept(quiz);
+            }
+        });
+
+        return new AiStreamParser<>() {
+            @Override
+            public void onChunk(String chunk) {
+                parser.onChunk(chunk);
+            }
+
+            @Override
+            public List<DetailQuizDto> complete() {
+                List<DetailQuizDto> result = parser.complete();
+                if (result.size() != QUIZ_COUNT) {
+                    throw new ServiceException(500, "뉴스 하나당 3개의 퀴즈가 생성되어야 합니다. 생성된 수: " + result.size());
+                }
+                return result;
+            }
+        };
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
     // AI 응답을 파싱하여 DetailQuizResDto 리스트로 변환
     @Override
     public List<DetailQuizDto> parseResponse(ChatResponse response) {
@@ -109,7 +184,7 @@ public class DetailQuizProcessor implements AiRequestProcessor<List<DetailQuizDt
             throw new ServiceException(500, "AI 응답이 JSON 형식이 아닙니다. 응답: " + text);
         }
 
-        if (result.size() != 3) {
+        if (result.size() != QUIZ_COUNT) {
             throw new ServiceException(500, "뉴스 하나당 3개의 퀴즈가 생성되어야 합니다. 생성된 수: " + result.size());
         }
 
@@ -2,6 +2,10 @@ package com.back.global.ai.processor;
 
 import com.back.domain.news.fake.dto.FakeNewsDto;
 import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.global.ai.AiRequestPriority;
+import com.back.global.ai.AiTokenEstimator;
+import com.back.global.ai.stream.AiStreamParser;
+import com.back.global.ai.stream.JsonObjectStreamParser;
 import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,7 +17,7 @@ import org.springframework.ai.chat.model.ChatResponse;
  * 진짜 뉴스를 기반으로 가짜 뉴스를 생성하는 AI 요청 Processor 입니다.
  */
 @Slf4j
-public class FakeNewsGeneratorProcessor implements AiRequestProcessor<FakeNewsDto> {
+public class FakeNewsGeneratorProcessor implements AiStreamingProcessor<FakeNewsDto> {
     private final RealNewsDto realNewsDto;
     private final ObjectMapper objectMapper;
 
@@ -140,6 +144,29 @@ public class FakeNewsGeneratorProcessor implements AiRequestProcessor<FakeNewsDt
         );
     }
 
+    @Override
+    public AiRequestPriority priority() {
+        return AiRequestPriority.FAKE_NEWS;
+    }
+
+    // 같은 기사로 가짜 뉴스를 다시 만드는 경우 이전 응답 재사용
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+
+    // 원본 기사와 비슷한 분량의 가짜 뉴스를 생성하므로 원본 본문 길이만큼 출력 토큰이 필요
+    @Override
+    public int estimateOutputTokens() {
+        return AiTokenEstimator.estimate(realNewsDto.content());
+    }
+
+    // 응답이 JSON 객체로 시작하지 않으면 본문 전체가 생성되기 전에 중단
+    @Override
+    public AiStreamParser<FakeNewsDto> newStreamParser() {
+        return new JsonObjectStreamParser<>(this::parseText);
+    }
+
     // AI 응답을 파싱하여 FakeNewsDto로 변환
     @Override
     public FakeNewsDto parseResponse(ChatResponse response) {
@@ -148,6 +175,10 @@ public class FakeNewsGeneratorProcessor implements AiRequestProcessor<FakeNewsDt
             throw new ServiceException(500, "AI 응답이 비어있습니다");
         }
 
+        return parseText(text);
+    }
+
+    private FakeNewsDto parseText(String text) {
         try {
             String cleanedJson = cleanResponse(text);
             FakeNewsGeneratedRes result = objectMapper.readValue(cleanedJson, FakeNewsGeneratedRes.class);
@@ -5,6 +5,7 @@ import com.back.domain.news.common.dto.KeywordGenerationResDto;
 import com.back.domain.news.common.dto.KeywordWithType;
 import com.back.domain.news.common.enums.KeywordType;
 import com.back.domain.news.fake.dto.FakeNewsDto;
+import com.back.global.ai.AiRequestPriority;
 import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.ai.chat.model.ChatResponse;
@@ -162,6 +163,11 @@ public class KeywordGeneratorProcessor implements AiRequestProcessor<KeywordGene
 
     }
 
+    @Override
+    public AiRequestPriority priority() {
+        return AiRequestPriority.KEYWORD_GENERATION;
+    }
+
     // AI 응답을 파싱하여 KeywordGenerationResDto 리스트로 변환
     @Override
     public KeywordGenerationResDto parseResponse(ChatResponse response) {
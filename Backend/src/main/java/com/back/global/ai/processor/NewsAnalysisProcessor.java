@@ -3,6 +3,8 @@ package com.back.global.ai.processor;
 import com.back.domain.news.common.dto.AnalyzedNewsDto;
 import com.back.domain.news.common.enums.NewsCategory;
 import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.global.ai.AiRequestPriority;
+import com.back.global.ai.AiTokenEstimator;
 import com.back.global.exception.ServiceException;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -146,6 +148,25 @@ public class NewsAnalysisProcessor implements AiRequestProcessor<List<AnalyzedNe
     }
 
 
+    @Override
+    public AiRequestPriority priority() {
+        return AiRequestPriority.NEWS_ANALYSIS;
+    }
+
+    // 같은 기사 묶음을 다시 분석하는 경우(수동 재실행 등) 이전 응답 재사용
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+
+    // 정제된 본문을 그대로 다시 출력하므로 입력 본문 길이만큼 출력 토큰이 필요
+    @Override
+    public int estimateOutputTokens() {
+        return newsToAnalyze.stream()
+                .mapToInt(news -> AiTokenEstimator.estimate(news.content()))
+                .sum();
+    }
+
     @Override
     public List<AnalyzedNewsDto> parseResponse(ChatResponse response) {
         String text = response.getResult().getOutput().getText();
@@ -217,7 +238,8 @@ public class NewsAnalysisProcessor implements AiRequestProcessor<List<AnalyzedNe
                     originalNews.mediaName(),
                     originalNews.journalist(),
                     originalNews.originalNewsUrl(),
-                    result.category()
+                    result.category(),
+                    originalNews.contentFingerprint() // 정제된 본문이 아닌 원문 기준 지문 유지
             );
 
             return AnalyzedNewsDto.of(updatedNews, result.qualityScore(), result.category());
@@ -0,0 +1,13 @@
+package com.back.global.ai.stream;
+
+/**
+ * 스트리밍으로 도착하는 AI 응답 조각을 순서대로 받아 결과를 만드는 파서입니다.
+ * onChunk 에서 예외를 던지면 스트림이 즉시 취소되어, 잘못된 형식의 응답을 끝까지 생성하지 않습니다.
+ *
+ * @param <T> 최종 결과 타입
+ */
+public interface AiStreamParser<T> {
+    void onChunk(String chunk); // 응답 조각 처리 (형식 오류 시 ServiceException)
+
+    T complete(); // 스트림이 끝난 뒤 최종 결과 반환
+}
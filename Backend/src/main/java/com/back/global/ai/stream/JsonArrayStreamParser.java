@@ -0,0 +1,142 @@
+package com.back.global.ai.stream;
+
+import com.back.global.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JSON 객체 배열([{...}, {...}]) 응답을 스트리밍으로 파싱하는 파서입니다.
+ * 객체 하나가 닫히는 즉시 elementType 으로 변환해 onElement 로 전달하므로, 전체 응답을 기다리지 않고 앞쪽 결과를 사용할 수 있습니다.
+ * 배열 시작 전의 ```json 코드 블록 표시는 허용하며, 그 밖의 형식 오류는 발견 즉시 ServiceException 을 던집니다.
+ */
+public class JsonArrayStreamParser<E> implements AiStreamParser<List<E>> {
+    private enum State { PREFIX, EXPECT_ELEMENT, IN_ELEMENT, AFTER_ELEMENT, DONE }
+
+    private static final int MAX_PREFIX_LENGTH = 16; // "```json" 과 공백 정도만 허용
+
+    private final ObjectMapper objectMapper;
+    private final Class<E> elementType;
+    private final Consumer<E> onElement;
+    private final List<E> elements = new ArrayList<>();
+
+    private State state = State.PREFIX;
+    private final StringBuilder prefix = new StringBuilder();
+    private final StringBuilder element = new StringBuilder();
+    private int depth = 0;
+    private boolean inString = false;
+    private boolean escaped = false;
+
+    public JsonArrayStreamParser(ObjectMapper objectMapper, Class<E> elementType, Consumer<E> onElement) {
+        this.objectMapper = objectMapper;
+        this.elementType = elementType;
+        this.onElement = onElement;
+    }
+
+    @Override
+    public void onChunk(String chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    @Override
+    public List<E> complete() {
+        if (state != State.DONE) {
+            throw new ServiceException(500, "AI 응답의 JSON 배열이 완결되지 않았습니다. 파싱된 요소 수: " + elements.size());
+        }
+        return List.copyOf(elements);
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case PREFIX -> {
+                if (c == '[') {
+                    state = State.EXPECT_ELEMENT;
+                    return;
+                }
+                prefix.append(c);
+                String trimmed = prefix.toString().trim();
+                if (prefix.length() > MAX_PREFIX_LENGTH || !"```json".startsWith(trimmed.toLowerCase())) {
+                    throw malformed("JSON 배열로 시작하지 않습니다: " + trimmed);
+                }
+            }
+            case EXPECT_ELEMENT -> {
+                if (Character.isWhitespace(c)) return;
+                if (c == ']' && elements.isEmpty()) {
+                    state = State.DONE;
+                    return;
+                }
+                if (c != '{') throw malformed("배열 요소가 객체가 아닙니다: " + c);
+                startElement(c);
+            }
+            case IN_ELEMENT -> readElement(c);
+            case AFTER_ELEMENT -> {
+                if (Character.isWhitespace(c)) return;
+                if (c == ',') {
+                    state = State.EXPECT_ELEMENT;
+                } else if (c == ']') {
+                    state = State.DONE;
+                } else {
+                    throw malformed("배열 요소 사이에 예상치 못한 문자: " + c);
+                }
+            }
+            case DONE -> {
+                // 닫는 코드 블록(```) 등 배열 이후의 텍스트는 무시
+            }
+        }
+    }
+
+    private void startElement(char c) {
+        element.setLength(0);
+        element.append(c);
+        depth = 1;
+        inString = false;
+        escaped = false;
+        state = State.IN_ELEMENT;
+    }
+
+    private void readElement(char c) {
+        element.append(c);
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+
+        if (c == '"') {
+            inString = true;
+        } else if (c == '{' || c == '[') {
+            depth++;
+        } else if (c == '}' || c == ']') {
+            depth--;
+            if (depth == 0) {
+                emitElement();
+            }
+        }
+    }
+
+    private void emitElement() {
+        E parsed;
+        try {
+            parsed = objectMapper.readValue(element.toString(), elementType);
+        } catch (Exception e) {
+            throw malformed("배열 요소를 변환할 수 없습니다: " + e.getMessage());
+        }
+        elements.add(parsed);
+        state = State.AFTER_ELEMENT;
+        onElement.accept(parsed);
+    }
+
+    private ServiceException malformed(String reason) {
+        return new ServiceException(500, "AI 응답 형식 오류 - " + reason);
+    }
+}
@@ -0,0 +1,45 @@
+package com.back.global.ai.stream;
+
+import com.back.global.exception.ServiceException;
+
+import java.util.function.Function;
+
+/**
+ * 단일 JSON 객체 응답을 스트리밍으로 받는 파서입니다.
+ * 응답 앞부분이 JSON 객체로 시작하지 않으면(```json 코드 블록 표시는 허용) 즉시 중단시키고,
+ * 스트림이 끝나면 전체 텍스트를 finisher 로 변환합니다.
+ */
+public class JsonObjectStreamParser<T> implements AiStreamParser<T> {
+    private static final int MAX_PREFIX_LENGTH = 16; // "```json" 과 공백 정도만 허용
+
+    private final Function<String, T> finisher;
+    private final StringBuilder text = new StringBuilder();
+    private boolean started = false;
+
+    public JsonObjectStreamParser(Function<String, T> finisher) {
+        this.finisher = finisher;
+    }
+
+    @Override
+    public void onChunk(String chunk) {
+        text.append(chunk);
+        if (started) {
+            return;
+        }
+
+        int start = text.indexOf("{");
+        String prefix = (start >= 0 ? text.substring(0, start) : text.toString()).trim();
+        if (prefix.length() > MAX_PREFIX_LENGTH || !"```json".startsWith(prefix.toLowerCase())) {
+            throw new ServiceException(500, "AI 응답 형식 오류 - JSON 객체로 시작하지 않습니다: " + prefix);
+        }
+        started = start >= 0;
+    }
+
+    @Override
+    public T complete() {
+        if (!started) {
+            throw new ServiceException(500, "AI 응답이 비어있습니다");
+        }
+        return finisher.apply(text.toString());
+    }
+}
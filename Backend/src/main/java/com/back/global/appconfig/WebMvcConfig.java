@@ -0,0 +1,20 @@
+package com.back.global.appconfig;
+
+import com.back.global.httpCache.ConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 로그인 여부와 관계없이 같은 응답을 주는 공개 조회 API 만 대상 (팩트 퀴즈 단건은 풀이 기록 포함이라 제외)
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/news", "/api/news/**", "/api/quiz/fact", "/api/quiz/fact/category");
+    }
+}
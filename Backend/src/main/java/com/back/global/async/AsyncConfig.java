@@ -1,17 +1,49 @@
 package com.back.global.async;
 
+import com.back.global.ai.AiRequestScheduler;
+import com.back.global.rateLimiter.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 비동기 작업용 Executor 설정입니다.
+ * async.virtual-threads 가 true 이면 뉴스/퀴즈/크롤링 Executor 가 가상 스레드로 동작합니다.
+ * 이 경우 동시성은 스레드 수가 아니라 Bulkhead(네이버 API, 크롤링, Gemini)와 RateLimiter/AiRequestScheduler 가 제한합니다.
+ *
+ * 플랫폼 스레드 풀(ThreadPoolTaskExecutor)의 지표는 actuator 가 executor.* 로 자동 등록하며,
+ * 가상 스레드 Executor 의 실행 중 작업 수와 벌크헤드 지표는 asyncMetrics 에서 등록합니다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+    @Value("${async.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    // 가상 스레드 Executor 별 실행 중 작업 수
+    private final Map<String, AtomicInteger> virtualActiveTasks = new ConcurrentHashMap<>();
+
     @Bean(name = "quizExecutor")
     public Executor quizExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("quizExecutor", "QuizGen-", 30);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2); // 동시에 실행할 스레드 수
         executor.setMaxPoolSize(2);  // 최대 스레드 수
@@ -25,6 +57,9 @@ public class AsyncConfig {
 
     @Bean(name = "newsExecutor")
     public Executor newsExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("newsExecutor", "newsGen-", 120);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2); // 동시에 실행할 스레드 수
         executor.setMaxPoolSize(2);  // 최대 스레드 수
@@ -38,6 +73,13 @@ public class AsyncConfig {
 
     @Bean(name = "dailyQuizExecutor")
     public Executor dailyQuizExecutor() {
+        if (virtualThreads) {
+            // 오늘의 퀴즈 생성은 순서대로 하나씩 실행되어야 하므로, 가상 스레드 하나로 직렬 실행
+            ConcurrentTaskExecutor executor = new ConcurrentTaskExecutor(
+                    Executors.newSingleThreadExecutor(Thread.ofVirtual().name("DailyQuizGen-", 0).factory()));
+            executor.setTaskDecorator(countActiveTasks("dailyQuizExecutor"));
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(1); // 동시에 실행할 스레드 수
         executor.setMaxPoolSize(1);  // 최대 스레드 수
@@ -49,4 +91,83 @@ public class AsyncConfig {
         return executor;
     }
 
+    @Bean(name = "crawlExecutor")
+    public Executor crawlExecutor(@Value("${naver.crawling.max-in-flight:1}") int maxInFlight) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("crawlExecutor", "newsCrawl-", 60);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlight); // 전체 호스트 합산 동시 요청 수만큼만 스레드 확보 (호스트별 간격은 HostThrottle 이 지킴, 나머지는 큐에서 대기)
+        executor.setMaxPoolSize(maxInFlight);
+        executor.setQueueCapacity(200); // 하루 수집 후보(약 80건)를 모두 담을 수 있는 크기
+        executor.setThreadNamePrefix("newsCrawl-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "naverApiBulkhead")
+    public Bulkhead naverApiBulkhead(@Value("${naver.max-concurrency:5}") int maxConcurrency) {
+        return new Bulkhead("naverApi", maxConcurrency);
+    }
+
+    @Bean(name = "crawlBulkhead")
+    public Bulkhead crawlBulkhead(@Value("${naver.crawling.max-in-flight:1}") int maxInFlight) {
+        return new Bulkhead("crawl", maxInFlight);
+    }
+
+    @Bean(name = "aiBulkhead")
+    public Bulkhead aiBulkhead(@Value("${ai.quota.max-concurrency:4}") int maxConcurrency) {
+        return new Bulkhead("gemini", maxConcurrency);
+    }
+
+    @Bean
+    public MeterBinder asyncMetrics(List<Bulkhead> bulkheads, AiRequestScheduler aiRequestScheduler, RateLimiter rateLimiter) {
+        return registry -> {
+            for (Bulkhead bulkhead : bulkheads) {
+                Gauge.builder("bulkhead.in.flight", bulkhead, Bulkhead::getInFlight)
+                        .tag("name", bulkhead.getName())
+                        .register(registry);
+                Gauge.builder("bulkhead.available", bulkhead, Bulkhead::getAvailablePermits)
+                        .tag("name", bulkhead.getName())
+                        .register(registry);
+                Gauge.builder("bulkhead.waiting", bulkhead, Bulkhead::getQueueLength)
+                        .tag("name", bulkhead.getName())
+                        .register(registry);
+            }
+
+            Gauge.builder("ai.quota.waiting", aiRequestScheduler, AiRequestScheduler::getQueueDepth)
+                    .register(registry);
+            Gauge.builder("naver.api.rate.limit.waiting", rateLimiter, RateLimiter::getQueueDepth)
+                    .register(registry);
+
+            virtualActiveTasks.forEach((name, active) ->
+                    Gauge.builder("executor.virtual.active", active, AtomicInteger::get)
+                            .tag("name", name)
+                            .register(registry));
+        };
+    }
+
+    // 작업마다 가상 스레드를 새로 만드는 Executor (대기 큐가 없으므로 TaskRejectedException 이 발생하지 않음)
+    private Executor virtualThreadExecutor(String name, String threadNamePrefix, int awaitTerminationSeconds) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(countActiveTasks(name));
+        executor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L); // 종료 시 실행 중인 작업 대기
+        log.info("{} 가상 스레드 모드로 동작", name);
+        return executor;
+    }
+
+    private TaskDecorator countActiveTasks(String name) {
+        AtomicInteger active = virtualActiveTasks.computeIfAbsent(name, key -> new AtomicInteger());
+        return runnable -> () -> {
+            active.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+    }
 }
@@ -0,0 +1,111 @@
+package com.back.global.async;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 외부 시스템 하나에 동시에 나가는 호출 수를 제한하는 세마포어 기반 벌크헤드입니다.
+ * 스레드 풀 크기 대신 실제 외부 한도(네이버 API, 크롤링 대상, Gemini)에 맞춰 동시성을 제한하므로,
+ * 가상 스레드처럼 스레드 수에 제한이 없는 Executor 에서도 외부 시스템으로 나가는 요청이 폭주하지 않습니다.
+ * 스트리밍처럼 호출이 스레드 밖에서 끝나는 경우에는 acquireAsync()/release() 로 허가를 직접 관리합니다.
+ */
+public class Bulkhead {
+    private final String name;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final Deque<CompletableFuture<Void>> asyncWaiters = new ArrayDeque<>(); // guarded by this
+
+    public Bulkhead(String name, int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException(name + " 벌크헤드의 동시 실행 수는 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent, true); // 대기 순서대로 허가
+    }
+
+    // 허가를 얻을 때까지 대기한 뒤 task 를 실행하고, 끝나면 허가를 반환
+    public <T> T execute(Supplier<T> task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 벌크헤드 대기 중 인터럽트 발생", e);
+        }
+
+        try {
+            return task.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 스레드를 점유하지 않고 허가를 기다립니다.
+     * 허가를 받은 뒤에는 호출이 끝나거나 취소될 때 반드시 release() 를 호출해야 합니다.
+     *
+     * @return 허가를 얻으면 완료되는 future (완료 전에 cancel 하면 허가를 받지 않음)
+     */
+    public synchronized CompletableFuture<Void> acquireAsync() {
+        if (permits.tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        asyncWaiters.addLast(waiter);
+
+        // 허가를 받기 전에 취소된 대기자는 대기열에서 제거
+        waiter.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                synchronized (this) {
+                    asyncWaiters.remove(waiter);
+                }
+            }
+        });
+        return waiter;
+    }
+
+    // 비동기 대기자가 있으면 허가를 그대로 넘기고, 없으면 세마포어에 반환
+    public void release() {
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = asyncWaiters.pollFirst();
+                if (next == null) {
+                    permits.release();
+                    return;
+                }
+            }
+            // 후속 작업이 락을 잡은 채 실행되지 않도록 락 밖에서 완료, 그 사이 취소된 대기자는 건너뜀
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    // 현재 실행 중인 호출 수
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    // 허가를 기다리는 호출 수
+    public int getQueueLength() {
+        synchronized (this) {
+            return permits.getQueueLength() + asyncWaiters.size();
+        }
+    }
+}
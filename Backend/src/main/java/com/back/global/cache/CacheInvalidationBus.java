@@ -0,0 +1,73 @@
+package com.back.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 캐시 무효화를 모든 노드에 알리는 버스입니다.
+ * - 캐시는 subscribe 로 토픽별 무효화 핸들러를 등록합니다.
+ * - 데이터를 변경하는 서비스는 같은 트랜잭션 안에서 publish 를 호출합니다.
+ *   이 노드의 핸들러는 커밋 이후에 실행되고, 다른 노드에는 transport 를 통해 전달됩니다.
+ * 전송 방식은 cache.invalidation.transport (database | in-jvm) 로 선택합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus {
+
+    private final CacheInvalidationTransport transport;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<CacheTopic, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        transport.subscribe(nodeId, this::deliver);
+    }
+
+    public void subscribe(CacheTopic topic, Consumer<String> handler) {
+        handlers.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * @param topic 무효화할 캐시 종류
+     * @param key   무효화할 항목 (null 이면 토픽 전체)
+     */
+    public void publish(CacheTopic topic, Object key) {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(topic, key != null ? key.toString() : null, nodeId);
+        transport.publish(message);
+
+        // 커밋 전에 무효화하면 다른 요청이 변경 전 값을 다시 캐시할 수 있으므로 커밋 이후 실행
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(message);
+                }
+            });
+        } else {
+            deliver(message);
+        }
+    }
+
+    private void deliver(CacheInvalidationMessage message) {
+        for (Consumer<String> handler : handlers.getOrDefault(message.topic(), List.of())) {
+            try {
+                handler.accept(message.key());
+            } catch (Exception e) {
+                log.warn("캐시 무효화 처리 실패 - {}: {}", message.topic(), message.key(), e);
+            }
+        }
+    }
+}
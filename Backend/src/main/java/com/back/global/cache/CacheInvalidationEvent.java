@@ -0,0 +1,45 @@
+package com.back.global.cache;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// 노드 간 캐시 무효화 메시지 아웃박스 (DatabaseCacheInvalidationTransport 가 폴링)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "cache_invalidation_event", indexes = {
+        @Index(name = "idx_cache_invalidation_event_created_at", columnList = "createdAt")
+})
+public class CacheInvalidationEvent {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private CacheTopic topic;
+
+    private String cacheKey;
+
+    private String originNode;
+
+    @CreationTimestamp(source = SourceType.DB) // 노드마다 시계가 다를 수 있으므로 DB 시각으로 기록 (보관 기간 정리용)
+    private LocalDateTime createdAt;
+
+    public CacheInvalidationEvent(CacheInvalidationMessage message) {
+        this.topic = message.topic();
+        this.cacheKey = message.key();
+        this.originNode = message.originNode();
+    }
+
+    public CacheInvalidationMessage toMessage() {
+        return new CacheInvalidationMessage(topic, cacheKey, originNode);
+    }
+}
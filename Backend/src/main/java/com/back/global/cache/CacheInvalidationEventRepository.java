@@ -0,0 +1,24 @@
+package com.back.global.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CacheInvalidationEventRepository extends JpaRepository<CacheInvalidationEvent, Long> {
+
+    List<CacheInvalidationEvent> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    List<CacheInvalidationEvent> findByIdIn(Collection<Long> ids);
+
+    Optional<CacheInvalidationEvent> findTopByOrderByIdDesc();
+
+    // 현재 DB 시각 + offsetMinutes(음수) 이전에 기록된 메시지 삭제 (기록 시각과 같은 DB 시계로 비교)
+    @Modifying
+    @Query(value = "DELETE FROM cache_invalidation_event WHERE created_at < TIMESTAMPADD(MINUTE, :offsetMinutes, LOCALTIMESTAMP)", nativeQuery = true)
+    int deleteCreatedBefore(@Param("offsetMinutes") long offsetMinutes);
+}
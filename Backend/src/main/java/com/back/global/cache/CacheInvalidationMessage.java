@@ -0,0 +1,9 @@
+package com.back.global.cache;
+
+// key 는 무효화할 항목 (예: 뉴스 ID). null 이면 해당 토픽 전체
+public record CacheInvalidationMessage(
+        CacheTopic topic,
+        String key,
+        String originNode
+) {
+}
@@ -0,0 +1,14 @@
+package com.back.global.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지를 다른 노드로 전달하는 전송 계층입니다.
+ * publish 는 호출한 쪽의 트랜잭션 안에서 실행될 수 있으며, 구독자에게는 다른 노드가 보낸 메시지만 전달합니다.
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(String nodeId, Consumer<CacheInvalidationMessage> listener);
+}
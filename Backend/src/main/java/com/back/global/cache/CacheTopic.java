@@ -0,0 +1,11 @@
+package com.back.global.cache;
+
+// 노드 간 무효화 대상 캐시 종류
+public enum CacheTopic {
+    TODAY_NEWS,   // 오늘의 뉴스 변경
+    REAL_NEWS,    // 뉴스 추가/삭제 (key: ',' 로 이은 뉴스 ID 목록)
+    FACT_QUIZ,    // 팩트 퀴즈 생성/삭제
+    DETAIL_QUIZ,  // 상세 퀴즈 재생성/수정
+    QUIZ_HISTORY, // 퀴즈 풀이 기록 추가 (key: 회원 ID)
+    MEMBER        // 회원 가입/수정/탈퇴, 경험치 변경 (key: 회원 ID)
+}
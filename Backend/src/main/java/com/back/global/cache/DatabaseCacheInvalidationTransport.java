@@ -0,0 +1,144 @@
+package com.back.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * cache_invalidation_event 테이블을 아웃박스로 사용하는 전송 계층입니다. 별도 메시지 브로커 없이 DB 만으로 동작합니다.
+ * - publish 는 호출한 쪽의 트랜잭션에 함께 기록되므로, 데이터 변경이 커밋될 때만 다른 노드에 전달됩니다.
+ * - 각 노드는 pollInterval 마다 마지막으로 읽은 ID 이후의 메시지를 읽어, 자신이 보낸 것을 제외하고 전달합니다.
+ * - ID 는 할당 순서이고 커밋 순서가 아니므로, 건너뛴 ID 는 빈 자리(gap)로 기억해 두었다가 커밋되면 전달합니다.
+ *   노드 시계를 비교하지 않으므로 노드 간 시계 차이나 오래 걸린 트랜잭션 때문에 메시지를 놓치지 않습니다.
+ *   gapTimeout 동안 나타나지 않은 ID 는 롤백된 것으로 보고 더 기다리지 않습니다.
+ * - retention 이 지난 메시지는 DB 시각 기준으로 주기적으로 삭제합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "database", matchIfMissing = true)
+public class DatabaseCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final int MAX_TRACKED_GAP = 1_000; // 이보다 크게 건너뛴 ID 는 auto_increment 점프로 보고 기억하지 않음
+
+    private final CacheInvalidationEventRepository repository;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Map<Long, Long> gaps = new LinkedHashMap<>(); // 아직 보이지 않은 ID → 처음 건너뛴 시각(nanoTime), poll 스레드만 사용
+    private long lastSeenId = 0;
+    private volatile boolean ready = false;
+
+    private record Subscriber(String nodeId, Consumer<CacheInvalidationMessage> listener) {}
+
+    public DatabaseCacheInvalidationTransport(
+            CacheInvalidationEventRepository repository,
+            @Value("${cache.invalidation.gap-timeout-seconds:600}") long gapTimeoutSeconds,
+            @Value("${cache.invalidation.retention-minutes:60}") long retentionMinutes
+    ) {
+        this.repository = repository;
+        this.gapTimeout = Duration.ofSeconds(gapTimeoutSeconds);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    @Override
+    @Transactional
+    public void publish(CacheInvalidationMessage message) {
+        repository.save(new CacheInvalidationEvent(message));
+    }
+
+    @Override
+    public void subscribe(String nodeId, Consumer<CacheInvalidationMessage> listener) {
+        subscribers.add(new Subscriber(nodeId, listener));
+    }
+
+    // 시작 이전의 메시지는 이미 반영된 상태(캐시가 비어 있음)이므로 마지막 ID 부터 읽기 시작
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void markExistingAsDelivered() {
+        lastSeenId = repository.findTopByOrderByIdDesc()
+                .map(CacheInvalidationEvent::getId)
+                .orElse(0L);
+        ready = true;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    @Transactional(readOnly = true)
+    public synchronized void poll() {
+        if (!ready) {
+            return;
+        }
+
+        List<CacheInvalidationEvent> events = new ArrayList<>();
+        if (!gaps.isEmpty()) {
+            events.addAll(repository.findByIdIn(gaps.keySet())); // 그 사이 커밋된 빈 자리
+        }
+        events.addAll(repository.findByIdGreaterThanOrderByIdAsc(lastSeenId));
+        events.sort(Comparator.comparing(CacheInvalidationEvent::getId));
+
+        long now = System.nanoTime();
+        for (CacheInvalidationEvent event : events) {
+            long id = event.getId();
+            if (id > lastSeenId) {
+                trackSkippedIds(id, now);
+                lastSeenId = id;
+            } else if (gaps.remove(id) == null) {
+                continue; // 이미 전달한 메시지
+            }
+            deliver(event.toMessage());
+        }
+
+        expireGaps(now);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:600000}")
+    @Transactional
+    public void cleanup() {
+        int deleted = repository.deleteCreatedBefore(-retention.toMinutes());
+        if (deleted > 0) {
+            log.debug("캐시 무효화 메시지 {}건 삭제", deleted);
+        }
+    }
+
+    private void deliver(CacheInvalidationMessage message) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.nodeId().equals(message.originNode())) {
+                subscriber.listener().accept(message);
+            }
+        }
+    }
+
+    // lastSeenId 와 id 사이에서 아직 커밋되지 않은 ID 를 빈 자리로 기억
+    private void trackSkippedIds(long id, long now) {
+        long skipped = id - lastSeenId - 1;
+        if (skipped > MAX_TRACKED_GAP) {
+            log.warn("캐시 무효화 메시지 ID 가 {}개 건너뛰어 빈 자리를 기억하지 않습니다: {} → {}", skipped, lastSeenId, id);
+            return;
+        }
+        for (long missing = lastSeenId + 1; missing < id; missing++) {
+            gaps.put(missing, now);
+        }
+    }
+
+    private void expireGaps(long now) {
+        Iterator<Map.Entry<Long, Long>> iterator = gaps.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Long> gap = iterator.next();
+            if (now - gap.getValue() < gapTimeout.toNanos()) {
+                break; // 건너뛴 순서대로 들어 있으므로 이후 항목은 아직 유효
+            }
+            log.debug("캐시 무효화 메시지 ID {} 를 롤백된 것으로 보고 더 기다리지 않습니다", gap.getKey());
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.global.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 노드(애플리케이션 컨텍스트)끼리 메시지를 바로 전달하는 전송 계층입니다. 테스트와 단일 인스턴스용입니다.
+ * 구독자 목록을 static 으로 공유하므로, 한 JVM 에 여러 컨텍스트를 띄우면 다중 노드처럼 동작합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "in-jvm")
+public class InJvmCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private record Subscriber(String nodeId, Consumer<CacheInvalidationMessage> listener) {}
+
+    private static final List<Subscriber> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    // 데이터베이스 전송과 마찬가지로 커밋된 변경만 전달
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(message);
+                }
+            });
+        } else {
+            deliver(message);
+        }
+    }
+
+    private void deliver(CacheInvalidationMessage message) {
+        for (Subscriber subscriber : SUBSCRIBERS) {
+            if (!subscriber.nodeId().equals(message.originNode())) {
+                subscriber.listener().accept(message);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String nodeId, Consumer<CacheInvalidationMessage> listener) {
+        SUBSCRIBERS.add(new Subscriber(nodeId, listener));
+    }
+}
@@ -0,0 +1,88 @@
+package com.back.global.crawler;
+
+import com.back.global.async.Bulkhead;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * 호스트별 동시성 제한과 요청 간격 스케줄을 지키면서 크롤링 작업을 병렬로 실행하는 엔진입니다.
+ * 전역 Thread.sleep 대신 호스트마다 HostThrottle 을 두어, 서로 다른 요청이 겹쳐서 실행되더라도
+ * 한 호스트로 나가는 요청은 delay 마다 하나씩만 시작되고, 동시에 진행되는 요청은 maxConcurrency(기본 1) 개로 유지됩니다.
+ * 병렬 처리는 서로 다른 호스트 사이에서만 일어납니다.
+ */
+@Slf4j
+@Component
+public class CrawlEngine {
+    private final Executor crawlExecutor;
+    private final Bulkhead crawlBulkhead;
+    private final Map<String, HostThrottle> throttles = new ConcurrentHashMap<>();
+    private final int maxConcurrency;
+    private final long intervalMillis;
+
+    public CrawlEngine(
+            @Qualifier("crawlExecutor") Executor crawlExecutor,
+            @Qualifier("crawlBulkhead") Bulkhead crawlBulkhead,
+            @Value("${naver.crawling.delay}") int crawlingDelay,
+            @Value("${naver.crawling.max-concurrency:1}") int maxConcurrency
+    ) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("NAVER_CRAWLING_MAX_CONCURRENCY는 1 이상이어야 합니다.");
+        }
+        this.crawlExecutor = crawlExecutor;
+        this.crawlBulkhead = crawlBulkhead;
+        this.maxConcurrency = maxConcurrency;
+        // 같은 호스트에는 delay 마다 요청 하나만 시작 (delay 를 동시 요청 수로 나누지 않음)
+        this.intervalMillis = crawlingDelay;
+    }
+
+    /**
+     * url 의 호스트 제한을 지키면서 fetcher 를 비동기로 실행합니다.
+     *
+     * @param url 요청할 주소 (호스트 단위로 제한이 적용됨)
+     * @param fetcher 실제 요청 및 파싱을 수행하는 함수
+     * @return fetcher 결과를 담은 CompletableFuture
+     */
+    public <T> CompletableFuture<T> submit(String url, Function<String, T> fetcher) {
+        HostThrottle throttle = throttles.computeIfAbsent(hostOf(url),
+                host -> new HostThrottle(maxConcurrency, intervalMillis));
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                throttle.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("크롤링 대기 중 인터럽트 발생: " + url, e);
+            }
+
+            try {
+                // 호스트별 제한과 별개로, 전체 호스트에 동시에 나가는 요청 수도 제한
+                return crawlBulkhead.execute(() -> fetcher.apply(url));
+            } finally {
+                throttle.release();
+            }
+        }, crawlExecutor);
+    }
+
+    public Map<String, HostThrottle> getThrottles() {
+        return Map.copyOf(throttles);
+    }
+
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (IllegalArgumentException e) {
+            log.debug("호스트 파싱 실패, URL 전체를 키로 사용: {}", url);
+            return url;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.back.global.crawler;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트 하나에 대한 크롤링 예절(politeness)을 보장하는 클래스입니다.
+ * - 동시 요청 수를 maxConcurrency 개로 제한합니다.
+ * - 요청 시작 시각을 intervalNanos 간격의 슬롯으로 예약해, 같은 호스트에 요청이 몰리지 않도록 합니다.
+ */
+public class HostThrottle {
+    private final Semaphore permits;
+    private final long intervalNanos;
+    private long nextSlotNanos = System.nanoTime();
+
+    public HostThrottle(int maxConcurrency, long intervalMillis) {
+        this.permits = new Semaphore(maxConcurrency, true); // 대기 순서대로 허가
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    // 동시 요청 허가를 얻은 뒤, 예약된 슬롯 시각까지 대기
+    public void acquire() throws InterruptedException {
+        permits.acquire();
+        try {
+            long waitNanos = reserveSlot() - System.nanoTime();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } catch (InterruptedException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    private synchronized long reserveSlot() {
+        long slot = Math.max(System.nanoTime(), nextSlotNanos);
+        nextSlotNanos = slot + intervalNanos;
+        return slot;
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.global.httpCache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 공개 조회 API 의 조건부 GET 을 처리하는 인터셉터입니다.
+ * ETag 는 ContentVersion 과 요청 URL(쿼리 포함)로 만들며, If-None-Match 가 일치하면 컨트롤러를 실행하지 않고 304 를 반환합니다.
+ * 2xx 가 아닌 응답은 ResponseAspect 에서 Cache-Control: no-store 로 바꿉니다.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+    private final ContentVersion contentVersion;
+    private final String cacheControl;
+
+    public ConditionalGetInterceptor(
+            ContentVersion contentVersion,
+            @Value("${cache.http.max-age-seconds:0}") long maxAgeSeconds,
+            @Value("${cache.http.shared-max-age-seconds:60}") long sharedMaxAgeSeconds
+    ) {
+        this.contentVersion = contentVersion;
+        // 브라우저는 매번 재검증(304), CDN 은 sharedMaxAge 동안 그대로 사용
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .sMaxAge(Duration.ofSeconds(sharedMaxAgeSeconds))
+                .cachePublic()
+                .mustRevalidate()
+                .getHeaderValue();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+
+        String url = request.getRequestURI() + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        String etag = "\"" + contentVersion.current() + "-" + ContentVersion.sha256(url).substring(0, 8) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        // 일치하면 304 상태와 ETag 헤더를 설정하고 true 반환
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
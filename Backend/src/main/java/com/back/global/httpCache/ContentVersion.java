@@ -0,0 +1,92 @@
+package com.back.global.httpCache;
+
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.domain.news.today.service.TodayNewsCache;
+import com.back.domain.quiz.fact.repository.FactQuizRepository;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.cache.CacheTopic;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 공개 뉴스/팩트 퀴즈 조회 응답의 내용 버전입니다. ETag 계산에 사용됩니다.
+ * 버전은 날짜, 최신 뉴스 생성 시각과 뉴스 수, 오늘의 뉴스 ID, 팩트 퀴즈 최대 ID와 수로 만들며, DB 상태로부터 계산하므로 모든 노드에서 같은 값이 나옵니다.
+ * 계산한 값은 메모리에 두고, 뉴스/퀴즈 변경이 CacheInvalidationBus 로 전달되거나 날짜가 바뀌면 다시 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentVersion {
+    private final RealNewsRepository realNewsRepository;
+    private final FactQuizRepository factQuizRepository;
+    private final TodayNewsCache todayNewsCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private record Snapshot(LocalDate date, String version) {}
+
+    private volatile Snapshot snapshot;
+    private long generation = 0; // invalidate 횟수, this 로 동기화
+
+    @PostConstruct
+    public void subscribe() {
+        // 공개 조회 응답에 영향을 주는 토픽만 구독
+        for (CacheTopic topic : List.of(CacheTopic.TODAY_NEWS, CacheTopic.REAL_NEWS, CacheTopic.FACT_QUIZ)) {
+            cacheInvalidationBus.subscribe(topic, key -> invalidate());
+        }
+    }
+
+    public String current() {
+        LocalDate today = LocalDate.now();
+        Snapshot current = snapshot;
+        if (current != null && current.date().equals(today)) {
+            return current.version();
+        }
+
+        long loadingGeneration;
+        synchronized (this) {
+            loadingGeneration = generation;
+        }
+
+        String version = compute(today);
+
+        synchronized (this) {
+            if (generation == loadingGeneration) {
+                snapshot = new Snapshot(today, version);
+            }
+        }
+        return version;
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    private String compute(LocalDate today) {
+        String raw = String.join("|",
+                today.toString(),
+                String.valueOf(realNewsRepository.findLatestCreatedDate().orElse(null)),
+                String.valueOf(realNewsRepository.count()),
+                String.valueOf(todayNewsCache.get().map(RealNewsDto::id).orElse(null)),
+                String.valueOf(factQuizRepository.findMaxId().orElse(null)),
+                String.valueOf(factQuizRepository.count()));
+        return sha256(raw).substring(0, 16);
+    }
+
+    static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
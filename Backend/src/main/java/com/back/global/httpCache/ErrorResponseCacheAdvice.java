@@ -0,0 +1,39 @@
+package com.back.global.httpCache;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * ConditionalGetInterceptor 는 컨트롤러 실행 전에 공개 캐시 헤더를 설정하므로,
+ * 응답이 2xx 가 아니면 (ServiceException, 검증 실패 등) CDN/브라우저가 오류 응답을 저장하지 않도록 no-store 로 바꿉니다.
+ */
+@ControllerAdvice
+public class ErrorResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (response instanceof ServletServerHttpResponse servletResponse) {
+            HttpServletResponse raw = servletResponse.getServletResponse();
+            int status = raw.getStatus();
+            if ((status < 200 || status >= 300) && raw.containsHeader(HttpHeaders.CACHE_CONTROL)) {
+                raw.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            }
+        }
+        return body;
+    }
+}
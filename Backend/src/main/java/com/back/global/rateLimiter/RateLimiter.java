@@ -1,43 +1,157 @@
 package com.back.global.rateLimiter;
 
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Bucket4j 버킷을 기반으로 한 비동기 Rate Limiter 입니다.
+ * - acquire()는 토큰을 얻는 순간 완료되는 CompletableFuture 를 반환하므로, 대기 중에 스레드를 점유하지 않습니다.
+ * - 대기자는 FIFO 순서로 토큰을 받으며, 취소(cancel)와 대기 시간 제한(deadline)을 지원합니다.
+ * - 토큰이 부족하면 버킷이 알려주는 보충 시간(nanosToWaitForRefill)에 맞춰 정확히 한 번 깨어납니다.
+ *
+ * 반환된 future 는 스케줄러 스레드에서 완료될 수 있으므로, 무거운 후속 작업은 thenApplyAsync(.., executor) 처럼
+ * 별도 Executor 에서 실행해주세요.
+ */
 @Component
 @Slf4j
 public class RateLimiter {
     private final Bucket bucket;
+    private final ScheduledExecutorService scheduler;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>(); // guarded by this
+    private ScheduledFuture<?> pendingWakeup; // guarded by this
 
     private static final long MAX_WAIT_TIME = 60000;
-    private static final long WAIT_INTERVAL = 2000;
 
     public RateLimiter(@Qualifier("bucket") Bucket bucket) {
         this.bucket = bucket;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rateLimiter-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
-    public void waitForRateLimit() throws InterruptedException {
-        int attempts = 0;
-        long startTime = System.currentTimeMillis();
+    /**
+     * 토큰 1개를 요청합니다. 대기 시간 제한 없이 순서대로 토큰을 기다립니다.
+     *
+     * @return 토큰을 획득하면 완료되는 future (cancel 하면 대기열에서 제거됨)
+     */
+    public CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        enqueue(future);
+        return future;
+    }
+
+    /**
+     * 토큰 1개를 요청합니다. timeout 안에 토큰을 얻지 못하면 TimeoutException 으로 완료됩니다.
+     */
+    public CompletableFuture<Void> acquire(Duration timeout) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        enqueue(future);
+        return future;
+    }
 
-        while (!bucket.tryConsume(1)) {
-            attempts++;
+    // 기존 동기 호출부 호환용 메서드 (최대 1분 대기)
+    public void waitForRateLimit() throws InterruptedException {
+        CompletableFuture<Void> future = acquire(Duration.ofMillis(MAX_WAIT_TIME));
 
-            if (System.currentTimeMillis() - startTime > MAX_WAIT_TIME) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
                 throw new RuntimeException("Rate limit 대기 시간 1분 초과");
             }
+            throw new RuntimeException("Rate limit 대기 중 오류 발생", e.getCause());
+        }
+    }
 
-            log.debug("Rate limit 대기 중... 시도 횟수: {}", attempts);
-            Thread.sleep(WAIT_INTERVAL); // 대기
+    // 현재 토큰을 기다리는 요청 수
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    private void enqueue(CompletableFuture<Void> future) {
+        synchronized (this) {
+            waiters.addLast(future);
+        }
 
-            if (attempts % 10 == 0) {
-                log.warn("Rate limit 대기가 길어지고 있습니다. 대기 횟수: {}", attempts);
+        // 취소/시간 초과로 끝난 대기자는 대기열에서 제거
+        future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                synchronized (this) {
+                    waiters.remove(future);
+                }
+            }
+        });
+
+        dispatch();
+    }
+
+    private void dispatch() {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+
+        synchronized (this) {
+            while (!waiters.isEmpty()) {
+                CompletableFuture<Void> head = waiters.peekFirst();
+                if (head.isDone()) {
+                    waiters.pollFirst();
+                    continue;
+                }
+
+                ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+                if (!probe.isConsumed()) {
+                    scheduleWakeup(probe.getNanosToWaitForRefill());
+                    break;
+                }
+
+                waiters.pollFirst();
+                granted.add(head);
+            }
+
+            if (!waiters.isEmpty()) {
+                log.debug("Rate limit 대기 중... 대기열 크기: {}", waiters.size());
+            }
+        }
+
+        // 후속 작업이 락을 잡은 채 실행되지 않도록 락 밖에서 완료
+        for (CompletableFuture<Void> future : granted) {
+            if (!future.complete(null)) {
+                bucket.addTokens(1); // 그 사이 취소된 요청의 토큰은 반환
             }
         }
+    }
 
-        if (attempts > 0) {
-            log.debug("Rate limit 토큰 획득 - 대기 횟수: {}", attempts);
+    private void scheduleWakeup(long nanosToWait) {
+        if (pendingWakeup != null && !pendingWakeup.isDone()) {
+            return; // 이미 다음 보충 시점에 깨어나도록 예약되어 있음
         }
+        pendingWakeup = scheduler.schedule(this::onWakeup, nanosToWait, TimeUnit.NANOSECONDS);
+    }
+
+    private void onWakeup() {
+        synchronized (this) {
+            pendingWakeup = null;
+        }
+        dispatch();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
     }
 }
@@ -6,13 +6,14 @@ import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
 
+// Gemini 쿼터는 AiRequestScheduler 가 관리하며, 이 버킷은 네이버 검색 API 호출에만 사용
 @Configuration
 public class RateLimiterConfig {
     @Bean
     public Bucket bucket() {
         return Bucket.builder()
                 .addLimit(limit ->
-                        limit.capacity(12).refillIntervally(1, Duration.ofSeconds(5))) // 5초마다 1개 토큰 보충 (1분에 12개)
+                        limit.capacity(10).refillGreedy(10, Duration.ofSeconds(1))) // 네이버 검색 API 초당 10회
                 .build();
     }
 }
@@ -77,6 +77,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
                         uri.startsWith("/api/quiz/daily/") ||
                         uri.startsWith("/api/admin/") ||
                         uri.equals("/api/members/info") ||
+                        uri.equals("/api/members/rank/around") ||
                         uri.equals("/api/members/logout") ||
                         uri.equals("/api/members/withdraw") ||
                         (method.equals("GET") && uri.matches("/api/quiz/fact/\\d+")) ||
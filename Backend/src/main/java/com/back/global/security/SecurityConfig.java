@@ -49,6 +49,7 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.GET, "/api/quiz/fact/{id}").authenticated() // fact퀴즈 단건 조회 GET 요청은 로그인한 사용자만 허용
                                 .requestMatchers(HttpMethod.POST, "/api/quiz/fact/submit/{id}").authenticated() // fact퀴즈 제출 POST 요청은 로그인한 사용자만 허용
                                 .requestMatchers( "/api/members/info").authenticated() // 마이페이지 조회, 수정
+                                .requestMatchers(HttpMethod.GET, "/api/members/rank/around").authenticated() // 내 주변 순위 조회
                                 .requestMatchers(HttpMethod.DELETE, "/api/members/withdraw", "/api/members/logout").authenticated() // 회원탈퇴, 로그아웃
 
                                 // 관리자만 접근 가능한 API
@@ -4,13 +4,17 @@ import com.back.global.exception.ServiceException;
 
 public class LevelSystem {
 
+    // 레벨별 최소 경험치 (MemberRepository.addExp 의 JPQL 에서도 사용하므로 상수로 유지)
+    public static final int LEVEL_2_EXP = 100;
+    public static final int LEVEL_3_EXP = 200;
+
     public static int calculateLevel(int exp) {
         if (exp < 0) {
             throw new ServiceException(400, "경험치는 음수가 될 수 없습니다.");
         }
 
-        if(exp<100) return 1;
-        else if(exp<200) return 2;
+        if(exp<LEVEL_2_EXP) return 1;
+        else if(exp<LEVEL_3_EXP) return 2;
         else return 3;
     }
 
@@ -0,0 +1,172 @@
+package com.back.global.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위(rank)와 n번째 원소(get)를 O(log n) 에 구하는 정렬 집합입니다.
+ * 노드마다 서브트리 크기를 저장한 트립(treap)으로 구현했으며, comparator 기준으로 같은 원소는 한 번만 저장합니다.
+ * 동기화하지 않으므로 여러 스레드에서 사용할 때는 호출하는 쪽에서 잠급니다.
+ */
+public class OrderStatisticTree<K> {
+
+    private static final class Node<K> {
+        final K key;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node<K> left;
+        Node<K> right;
+        int size = 1;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    private record Split<K>(Node<K> less, Node<K> greaterOrEqual) {}
+
+    private final Comparator<? super K> comparator;
+    private Node<K> root;
+
+    public OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    public boolean contains(K key) {
+        Node<K> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    public boolean add(K key) {
+        if (contains(key)) {
+            return false;
+        }
+        Split<K> split = split(root, key);
+        root = merge(merge(split.less(), new Node<>(key)), split.greaterOrEqual());
+        return true;
+    }
+
+    public boolean remove(K key) {
+        if (!contains(key)) {
+            return false;
+        }
+        root = remove(root, key);
+        return true;
+    }
+
+    // key 보다 앞에 있는 원소 수 (key 가 있으면 0부터 시작하는 위치)
+    public int rank(K key) {
+        int rank = 0;
+        Node<K> node = root;
+        while (node != null) {
+            if (comparator.compare(key, node.key) <= 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    // 0부터 시작하는 index 번째 원소
+    public K get(int index) {
+        Objects.checkIndex(index, size());
+        Node<K> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.key;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    // from 번째부터 최대 count 개 (범위를 벗어난 부분은 제외)
+    public List<K> range(int from, int count) {
+        int start = Math.max(from, 0);
+        int end = Math.min(from + count, size());
+        List<K> result = new ArrayList<>(Math.max(end - start, 0));
+        for (int i = start; i < end; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    private Node<K> remove(Node<K> node, K key) {
+        int cmp = comparator.compare(key, node.key);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, key);
+        } else {
+            node.right = remove(node.right, key);
+        }
+        update(node);
+        return node;
+    }
+
+    private Split<K> split(Node<K> node, K key) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        if (comparator.compare(node.key, key) < 0) {
+            Split<K> split = split(node.right, key);
+            node.right = split.less();
+            update(node);
+            return new Split<>(node, split.greaterOrEqual());
+        }
+        Split<K> split = split(node.left, key);
+        node.left = split.greaterOrEqual();
+        update(node);
+        return new Split<>(split.less(), node);
+    }
+
+    // a 의 모든 원소가 b 의 모든 원소보다 앞에 있어야 함
+    private Node<K> merge(Node<K> a, Node<K> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private void update(Node<K> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,64 @@
+package com.back.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 64비트 SimHash 로 문서의 지문(fingerprint)을 계산하는 유틸 클래스입니다.
+ * 한국어는 띄어쓰기와 조사 변화가 많아 단어 단위보다 글자 단위 shingle 이 안정적이므로,
+ * 공백과 문장부호를 제거한 본문을 SHINGLE_SIZE 글자씩 잘라 해시합니다.
+ * 내용이 거의 같은 기사는 지문 간 해밍 거리가 작게 나옵니다.
+ */
+public class SimHash {
+    private static final int SHINGLE_SIZE = 3;
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(String text) {
+        if (text == null) {
+            return 0L;
+        }
+        String normalized = text.replaceAll("[\\s\\p{Punct}·“”‘’…]+", "").toLowerCase();
+        if (normalized.length() < SHINGLE_SIZE) {
+            return hash(normalized);
+        }
+
+        // shingle 별 등장 횟수를 가중치로 사용
+        Map<String, Integer> shingles = new HashMap<>();
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            shingles.merge(normalized.substring(i, i + SHINGLE_SIZE), 1, Integer::sum);
+        }
+
+        int[] weights = new int[64];
+        for (Map.Entry<String, Integer> entry : shingles.entrySet()) {
+            long hash = hash(entry.getKey());
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? entry.getValue() : -entry.getValue();
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // 64비트 FNV-1a
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,63 @@
+package com.back.global.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해밍 거리 maxDistance(최대 3) 이내의 SimHash 지문을 빠르게 찾기 위한 인덱스입니다.
+ * 64비트 지문을 16비트 블록 4개로 나누면, 거리가 3 이하인 두 지문은 적어도 한 블록이 완전히 같습니다(비둘기집 원리).
+ * 따라서 블록 값이 같은 후보만 실제 거리를 계산합니다.
+ */
+public class SimHashIndex {
+    private static final int BLOCKS = 4;
+    private static final int BLOCK_BITS = 64 / BLOCKS;
+
+    private final int maxDistance;
+    private final List<Map<Integer, List<Long>>> tables = new ArrayList<>();
+
+    public SimHashIndex(int maxDistance) {
+        if (maxDistance < 0 || maxDistance >= BLOCKS) {
+            throw new IllegalArgumentException("maxDistance는 0 이상 " + (BLOCKS - 1) + " 이하여야 합니다.");
+        }
+        this.maxDistance = maxDistance;
+        for (int i = 0; i < BLOCKS; i++) {
+            tables.add(new HashMap<>());
+        }
+    }
+
+    public synchronized void add(long fingerprint) {
+        for (int i = 0; i < BLOCKS; i++) {
+            tables.get(i).computeIfAbsent(block(fingerprint, i), key -> new ArrayList<>()).add(fingerprint);
+        }
+    }
+
+    public synchronized boolean containsNear(long fingerprint) {
+        for (int i = 0; i < BLOCKS; i++) {
+            List<Long> candidates = tables.get(i).get(block(fingerprint, i));
+            if (candidates == null) {
+                continue;
+            }
+            for (long candidate : candidates) {
+                if (SimHash.distance(candidate, fingerprint) <= maxDistance) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 이미 비슷한 지문이 있으면 false, 없으면 추가하고 true
+    public synchronized boolean addIfAbsent(long fingerprint) {
+        if (containsNear(fingerprint)) {
+            return false;
+        }
+        add(fingerprint);
+        return true;
+    }
+
+    private int block(long fingerprint, int index) {
+        return (int) ((fingerprint >>> (index * BLOCK_BITS)) & 0xFFFF);
+    }
+}
@@ -0,0 +1,112 @@
+-- 기준 스키마: Flyway 도입 전 ddl-auto 로 만들던 테이블(IDENTITY ID, 검색/캐시 관련 컬럼과 인덱스 추가 이전)을 그대로 옮긴 것입니다.
+-- ddl-auto 로 이미 만들어진 운영 DB 는 baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용하므로,
+-- 이후에 추가된 테이블/컬럼/인덱스는 이 파일을 고치지 말고 새 버전으로 추가합니다.
+
+CREATE TABLE member (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    api_key         VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL,
+    exp             INTEGER      NOT NULL CHECK (exp >= 0),
+    level           INTEGER      NOT NULL CHECK (level >= 1),
+    name            VARCHAR(50)  NOT NULL,
+    oauth_id        VARCHAR(255),
+    password        VARCHAR(255) NOT NULL,
+    profile_img_url VARCHAR(255),
+    role            VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_api_key UNIQUE (api_key),
+    CONSTRAINT uk_member_email UNIQUE (email),
+    CONSTRAINT uk_member_oauth_id UNIQUE (oauth_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE real_news (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    content             LONGTEXT,
+    created_date        DATETIME(6),
+    description         VARCHAR(255),
+    img_url             VARCHAR(255),
+    journalist          VARCHAR(255),
+    link                VARCHAR(255),
+    media_name          VARCHAR(255),
+    news_category       ENUM ('SOCIETY','ECONOMY','POLITICS','CULTURE','IT','NOT_FILTERED'),
+    origin_created_date DATETIME(6),
+    original_news_url   VARCHAR(255),
+    title               VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE fake_news (
+    real_news_id BIGINT NOT NULL,
+    content      LONGTEXT,
+    PRIMARY KEY (real_news_id),
+    CONSTRAINT fk_fake_news_real_news FOREIGN KEY (real_news_id) REFERENCES real_news (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE today_news (
+    real_news_id  BIGINT NOT NULL,
+    selected_date DATE,
+    PRIMARY KEY (real_news_id),
+    CONSTRAINT fk_today_news_real_news FOREIGN KEY (real_news_id) REFERENCES real_news (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE detail_quiz (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    correct_option ENUM ('OPTION1','OPTION2','OPTION3') NOT NULL,
+    option1        VARCHAR(255),
+    option2        VARCHAR(255),
+    option3        VARCHAR(255),
+    question       VARCHAR(255),
+    quiz_type      ENUM ('DETAIL','FACT','DAILY') NOT NULL,
+    real_news_id   BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_detail_quiz_real_news FOREIGN KEY (real_news_id) REFERENCES real_news (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE fact_quiz (
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    correct_news_type ENUM ('REAL','FAKE') NOT NULL,
+    created_date      DATETIME(6),
+    question          VARCHAR(255),
+    quiz_type         ENUM ('DETAIL','FACT','DAILY') NOT NULL,
+    fake_news_id      BIGINT NOT NULL,
+    real_news_id      BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_fact_quiz_fake_news FOREIGN KEY (fake_news_id) REFERENCES fake_news (real_news_id),
+    CONSTRAINT fk_fact_quiz_real_news FOREIGN KEY (real_news_id) REFERENCES real_news (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE daily_quiz (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    quiz_type      ENUM ('DETAIL','FACT','DAILY') NOT NULL,
+    detail_quiz_id BIGINT NOT NULL,
+    today_news_id  BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_quiz_detail_quiz UNIQUE (detail_quiz_id),
+    CONSTRAINT fk_daily_quiz_detail_quiz FOREIGN KEY (detail_quiz_id) REFERENCES detail_quiz (id),
+    CONSTRAINT fk_daily_quiz_today_news FOREIGN KEY (today_news_id) REFERENCES today_news (real_news_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE quiz_history (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    answer       VARCHAR(255) NOT NULL,
+    created_date DATETIME(6),
+    gain_exp     INTEGER      NOT NULL,
+    is_correct   BIT          NOT NULL,
+    quiz_id      BIGINT       NOT NULL,
+    quiz_type    ENUM ('DETAIL','FACT','DAILY') NOT NULL,
+    member_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_quiz_history_member_quiz UNIQUE (member_id, quiz_id, quiz_type),
+    CONSTRAINT fk_quiz_history_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE keyword_history (
+    id           BIGINT  NOT NULL AUTO_INCREMENT,
+    category     ENUM ('SOCIETY','ECONOMY','POLITICS','CULTURE','IT','NOT_FILTERED'),
+    create_at    DATETIME(6),
+    keyword      VARCHAR(255),
+    keyword_type ENUM ('BREAKING','ONGOING','GENERAL','SEASONAL'),
+    use_count    INTEGER NOT NULL,
+    used_date    DATE,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
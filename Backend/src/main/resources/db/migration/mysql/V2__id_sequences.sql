@@ -0,0 +1,41 @@
+-- 시퀀스 ID(allocationSize 50) 용 테이블입니다. 엔티티의 @SequenceGenerator(sequenceName = "<테이블>_seq") 와 같게 유지합니다.
+-- MySQL 에는 시퀀스가 없어 Hibernate 가 <테이블>_seq 테이블(next_val 한 행)로 흉내 냅니다.
+-- 새로 설치하는 DB 와 baseline 으로 V1 을 건너뛴 기존 DB 모두 Flyway 가 이 파일을 적용하므로, 따로 실행할 스크립트는 없습니다.
+-- V1(기준 스키마)의 테이블만 사용하므로 이후 버전의 스키마 변경과 무관하게 적용됩니다.
+-- IDENTITY(AUTO_INCREMENT) 로 쌓인 기존 ID 와 겹치지 않도록, 행이 없을 때만 최대 ID 보다 100 크게 시작합니다.
+-- (pooled 방식이라 읽은 값 기준 앞쪽 50개를 사용) 기존 id 컬럼의 AUTO_INCREMENT 는 남아 있어도 동작에 영향이 없습니다.
+
+CREATE TABLE IF NOT EXISTS member_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO member_seq (next_val)
+SELECT t.next_val FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM member) t
+WHERE NOT EXISTS (SELECT 1 FROM member_seq);
+
+CREATE TABLE IF NOT EXISTS real_news_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO real_news_seq (next_val)
+SELECT t.next_val FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM real_news) t
+WHERE NOT EXISTS (SELECT 1 FROM real_news_seq);
+
+CREATE TABLE IF NOT EXISTS detail_quiz_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO detail_quiz_seq (next_val)
+SELECT t.next_val FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM detail_quiz) t
+WHERE NOT EXISTS (SELECT 1 FROM detail_quiz_seq);
+
+CREATE TABLE IF NOT EXISTS fact_quiz_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO fact_quiz_seq (next_val)
+SELECT t.next_val FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM fact_quiz) t
+WHERE NOT EXISTS (SELECT 1 FROM fact_quiz_seq);
+
+CREATE TABLE IF NOT EXISTS daily_quiz_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO daily_quiz_seq (next_val)
+SELECT t.next_val FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM daily_quiz) t
+WHERE NOT EXISTS (SELECT 1 FROM daily_quiz_seq);
+
+CREATE TABLE IF NOT EXISTS quiz_history_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO quiz_history_seq (next_val)
+SELECT t.next_val FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM quiz_history) t
+WHERE NOT EXISTS (SELECT 1 FROM quiz_history_seq);
+
+CREATE TABLE IF NOT EXISTS keyword_history_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO keyword_history_seq (next_val)
+SELECT t.next_val FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM keyword_history) t
+WHERE NOT EXISTS (SELECT 1 FROM keyword_history_seq);
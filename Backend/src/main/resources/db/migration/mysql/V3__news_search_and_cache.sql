@@ -0,0 +1,41 @@
+-- 기준 스키마(V1) 이후 추가된 테이블/컬럼/인덱스입니다. 엔티티와 같게 유지합니다. (다르면 ddl-auto: validate 에서 시작이 실패합니다)
+
+-- RealNews: 유사 기사 중복 제거용 본문 SimHash, 카테고리 내 최신순 순위 (RealNewsRankService 가 시작 시 기존 뉴스의 순위를 채움)
+ALTER TABLE real_news
+    ADD COLUMN content_fingerprint BIGINT,
+    ADD COLUMN category_rank       INTEGER;
+
+-- RealNewsRepository: 중복 확인(link, title), 최신순/카테고리별 목록과 커서 조회, 순위 조회
+CREATE INDEX idx_real_news_link ON real_news (link);
+CREATE INDEX idx_real_news_title ON real_news (title);
+CREATE INDEX idx_real_news_created_date ON real_news (created_date, id);
+CREATE INDEX idx_real_news_category_created_date ON real_news (news_category, created_date, id);
+CREATE INDEX idx_real_news_category_rank ON real_news (category_rank);
+
+-- CrawlCache: 크롤링한 기사 본문 캐시 (조건부 요청용 ETag/Last-Modified)
+CREATE TABLE crawl_cache (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    compressed_detail LONGBLOB,
+    etag              VARCHAR(255),
+    expires_at        DATETIME(6),
+    fetched_at        DATETIME(6),
+    last_modified     VARCHAR(255),
+    status            ENUM ('PARSED','UNPARSEABLE'),
+    url               VARCHAR(512) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_crawl_cache_url UNIQUE (url)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_crawl_cache_fetched_at ON crawl_cache (fetched_at);
+
+-- CacheInvalidationEvent: 노드 간 캐시 무효화 메시지 (DB 전송 방식)
+CREATE TABLE cache_invalidation_event (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    cache_key   VARCHAR(255),
+    created_at  DATETIME(6),
+    origin_node VARCHAR(255),
+    topic       ENUM ('TODAY_NEWS','REAL_NEWS','FACT_QUIZ','DETAIL_QUIZ','QUIZ_HISTORY','MEMBER'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_cache_invalidation_event_created_at ON cache_invalidation_event (created_at);
@@ -0,0 +1,20 @@
+-- 리포지토리 조회 조건별 인덱스입니다. 엔티티의 @Table(indexes) 와 같게 유지합니다. (개발/테스트 H2 는 ddl-auto 로 같은 인덱스 생성)
+-- real_news 의 link, title, (news_category, created_date), created_date, category_rank 인덱스는 V3 에 있습니다.
+-- MySQL 은 외래 키에 인덱스가 없으면 자동으로 만들고, 같은 컬럼으로 시작하는 인덱스를 만들면 자동 인덱스를 정리합니다.
+
+-- KeywordHistoryRepository: findOverusedKeywords(used_date >= ? GROUP BY keyword), findKeywordsByUsedDate,
+-- findByKeywordsAndCategoryAndUsedDate, deleteByUsedDateBefore, findByUsedDateGreaterThanEqual
+-- keyword 를 포함해 GROUP BY / DISTINCT 를 인덱스만으로 처리
+CREATE INDEX idx_keyword_history_used_date ON keyword_history (used_date, keyword);
+
+-- TodayNewsRepository: findBySelectedDate, deleteBySelectedDate
+CREATE INDEX idx_today_news_selected_date ON today_news (selected_date);
+
+-- FactQuizRepository: findByRealNewsId, 순위별 퀴즈 조회(real_news 조인)
+CREATE INDEX idx_fact_quiz_real_news_id ON fact_quiz (real_news_id);
+
+-- DetailQuizRepository: findByRealNewsId, deleteByRealNewsId
+CREATE INDEX idx_detail_quiz_real_news_id ON detail_quiz (real_news_id);
+
+-- DailyQuizRepository: findByTodayNewsId
+CREATE INDEX idx_daily_quiz_today_news_id ON daily_quiz (today_news_id);
@@ -0,0 +1,15 @@
+-- write-behind 로 아직 저장되지 않은 풀이 기록의 중복 제출을 모든 노드에서 막기 위한 예약 테이블입니다. (QuizSubmissionReservation)
+-- 요청 트랜잭션에서 INSERT 하므로 유니크 제약 위반이 곧 중복 제출이며, 보관 기간이 지난 예약은 주기적으로 삭제합니다.
+-- 그때는 이미 quiz_history 에 반영되어 있으므로 중복 여부는 quiz_history 로 확인합니다.
+
+CREATE TABLE quiz_submission_reservation (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    member_id  BIGINT NOT NULL,
+    quiz_id    BIGINT NOT NULL,
+    quiz_type  ENUM ('DETAIL','FACT','DAILY') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_quiz_submission_reservation UNIQUE (member_id, quiz_id, quiz_type)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_quiz_submission_reservation_created_at ON quiz_submission_reservation (created_at);
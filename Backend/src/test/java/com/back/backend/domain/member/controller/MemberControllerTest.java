@@ -1,6 +1,7 @@
 package com.back.backend.domain.member.controller;
 
 import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.service.MemberLeaderboard;
 import com.back.domain.member.member.repository.MemberRepository;
 import com.back.domain.member.member.service.MemberService;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +41,14 @@ public class MemberControllerTest {
     private MemberRepository memberRepository;
     @Autowired
     private MockMvc mvc;
+    @Autowired
+    private MemberLeaderboard memberLeaderboard;
+
+    // 테스트에서 순위표에 넣은 회원은 롤백되므로, 롤백 뒤 DB 기준으로 다시 만듦
+    @AfterTransaction
+    void resetLeaderboard() {
+        memberLeaderboard.rebuild();
+    }
 
     @Test
     @DisplayName("회원가입 성공")
@@ -554,4 +564,79 @@ public class MemberControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("경험치 순위 조회 - 1위부터 순위 포함")
+    void rank_success() throws Exception {
+        mvc.perform(get("/api/members/rank"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data[0].rank").value(1));
+    }
+
+    @Test
+    @DisplayName("내 주변 경험치 순위 조회 - 앞뒤 range 명과 순위 포함")
+    void rankAround_success() throws Exception {
+        String accessToken = joinRankedMembersAndLogin();
+
+        mvc.perform(get("/api/members/rank/around")
+                        .param("range", "1")
+                        .cookie(new jakarta.servlet.http.Cookie("accessToken", accessToken)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].rank").value(1))
+                .andExpect(jsonPath("$.data[0].email").value("rank1@example.com"))
+                .andExpect(jsonPath("$.data[1].rank").value(2))
+                .andExpect(jsonPath("$.data[1].email").value("rank2@example.com"))
+                .andExpect(jsonPath("$.data[2].rank").value(3))
+                .andExpect(jsonPath("$.data[2].email").value("rank3@example.com"));
+    }
+
+    @Test
+    @DisplayName("내 주변 경험치 순위 조회 실패 - range 범위 초과 시 400에러")
+    void rankAround_invalidRange() throws Exception {
+        String accessToken = joinRankedMembersAndLogin();
+
+        mvc.perform(get("/api/members/rank/around")
+                        .param("range", "11")
+                        .cookie(new jakarta.servlet.http.Cookie("accessToken", accessToken)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400));
+    }
+
+    @Test
+    @DisplayName("마이페이지 조회 시 경험치 순위 포함")
+    void myInfo_with_rank() throws Exception {
+        String accessToken = joinRankedMembersAndLogin();
+
+        mvc.perform(get("/api/members/info")
+                        .cookie(new jakarta.servlet.http.Cookie("accessToken", accessToken)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("rank2@example.com"))
+                .andExpect(jsonPath("$.data.rank").value(2));
+    }
+
+    // 경험치 300, 200, 100 인 회원을 만들고 2위 회원으로 로그인한 accessToken 반환
+    private String joinRankedMembersAndLogin() throws Exception {
+        int[] exps = {300, 200, 100};
+        for (int i = 0; i < exps.length; i++) {
+            Member member = memberService.join("순위유저" + (i + 1), "12345678910", "rank" + (i + 1) + "@example.com");
+            memberRepository.addExp(member.getId(), exps[i]);
+        }
+        memberLeaderboard.rebuild(); // 테스트 트랜잭션은 커밋되지 않아 MEMBER 메시지가 전달되지 않으므로 직접 다시 만듦
+
+        ResultActions loginResult = mvc.perform(post("/api/members/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "email": "rank2@example.com",
+                        "password": "12345678910"
+                    }
+                """.stripIndent()));
+        return loginResult.andReturn().getResponse().getCookie("accessToken").getValue();
+    }
+}
@@ -0,0 +1,194 @@
+package com.back.backend.domain.member.quizhistory.service;
+
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.member.quizhistory.dto.PendingQuizHistory;
+import com.back.domain.member.quizhistory.entity.QuizHistory;
+import com.back.domain.member.quizhistory.repository.QuizHistoryRepository;
+import com.back.domain.member.quizhistory.repository.QuizSubmissionReservationRepository;
+import com.back.domain.member.quizhistory.service.QuizHistoryBatchWriter;
+import com.back.domain.member.quizhistory.service.QuizHistoryWriteBehind;
+import com.back.domain.member.quizhistory.service.SolvedQuizCache;
+import com.back.domain.quiz.QuizType;
+import com.back.global.cache.CacheInvalidationBus;
+import com.back.global.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class QuizHistoryWriteBehindTest {
+    private static final long MEMBER_ID = 1L;
+
+    @TempDir
+    Path dir;
+
+    private Path logFile;
+    private SolvedQuizCache solvedQuizCache;
+    private QuizSubmissionReservationRepository reservationRepository;
+    private QuizHistoryBatchWriter batchWriter;
+    private final Semaphore flushGate = new Semaphore(0); // 저장 스레드의 writeBatch 를 한 번씩 통과시킴
+    private QuizHistoryWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        logFile = dir.resolve("quiz-history.log");
+        solvedQuizCache = mock(SolvedQuizCache.class);
+        reservationRepository = mock(QuizSubmissionReservationRepository.class);
+        batchWriter = mock(QuizHistoryBatchWriter.class);
+        doAnswer(invocation -> {
+            flushGate.acquire();
+            return null;
+        }).when(batchWriter).writeBatch(anyList());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        flushGate.release(1000);
+        if (writeBehind != null) {
+            writeBehind.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("저장 전인 같은 문제를 다시 예약하면 400")
+    void t1() {
+        //Given
+        writeBehind = writeBehind(batchWriter, 10, 1024);
+        writeBehind.reserve(history(10L));
+
+        //When & Then
+        assertThatThrownBy(() -> writeBehind.reserve(history(10L)))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getRsData().code())
+                .isEqualTo(400);
+        verify(reservationRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 예약해 예약 테이블의 유니크 제약에 걸리면 400, 이 노드의 예약도 남기지 않음")
+    void t2() {
+        //Given
+        writeBehind = writeBehind(batchWriter, 10, 1024);
+        when(reservationRepository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        //When & Then
+        assertThatThrownBy(() -> writeBehind.reserve(history(10L)))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getRsData().code())
+                .isEqualTo(400);
+        assertThat(writeBehind.findPending(MEMBER_ID, QuizType.DETAIL, 10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요청 트랜잭션이 롤백되어 예약을 취소하면 다시 제출할 수 있음")
+    void t3() {
+        //Given
+        writeBehind = writeBehind(batchWriter, 10, 1024);
+        PendingQuizHistory history = history(10L);
+        writeBehind.reserve(history);
+        assertThat(writeBehind.findPending(MEMBER_ID, QuizType.DETAIL, 10L)).contains(history);
+
+        //When
+        writeBehind.cancel(history);
+
+        //Then
+        assertThat(writeBehind.findPending(MEMBER_ID, QuizType.DETAIL, 10L)).isEmpty();
+        writeBehind.reserve(history(10L));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 503, 예약 테이블에서도 지워 다시 제출할 수 있음")
+    void t4() throws Exception {
+        //Given
+        writeBehind = writeBehind(batchWriter, 1, 1024);
+        writeBehind.start();
+        PendingQuizHistory first = history(10L);
+        writeBehind.reserve(first);
+        writeBehind.enqueue(first); // 저장 스레드가 writeBatch 에서 멈춰 자리를 돌려주지 않음
+
+        PendingQuizHistory second = history(20L);
+        writeBehind.reserve(second);
+
+        //When & Then
+        assertThatThrownBy(() -> writeBehind.enqueue(second))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getRsData().code())
+                .isEqualTo(503);
+        assertThat(writeBehind.findPending(MEMBER_ID, QuizType.DETAIL, 20L)).isEmpty();
+        verify(reservationRepository).deleteReservation(MEMBER_ID, QuizType.DETAIL, 20L);
+    }
+
+    @Test
+    @DisplayName("시작 시 로그를 재반영하면서 이미 저장된 기록과 깨진 줄은 건너뜀")
+    void t5() throws Exception {
+        //Given
+        QuizHistoryRepository quizHistoryRepository = mock(QuizHistoryRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        QuizHistoryBatchWriter realWriter = new QuizHistoryBatchWriter(
+                quizHistoryRepository, memberRepository, mock(CacheInvalidationBus.class));
+
+        PendingQuizHistory stored = history(10L);
+        PendingQuizHistory unstored = history(20L);
+        when(quizHistoryRepository.existsByMemberIdAndQuizIdAndQuizType(MEMBER_ID, 10L, QuizType.DETAIL)).thenReturn(true);
+        Files.writeString(logFile, stored.toLogLine() + "\n" + unstored.toLogLine() + "\n1\tDETAIL", StandardCharsets.UTF_8);
+
+        //When
+        writeBehind = writeBehind(realWriter, 10, 1024);
+        writeBehind.start();
+
+        //Then
+        ArgumentCaptor<List<QuizHistory>> saved = ArgumentCaptor.captor();
+        verify(quizHistoryRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(QuizHistory::getQuizId).containsExactly(20L);
+        verify(memberRepository, times(1)).addExp(MEMBER_ID, 10);
+        assertThat(Files.size(logFile)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영된 앞부분이 compactBytes 를 넘으면 로그에 아직 반영되지 않은 뒷부분만 남김")
+    void t6() throws Exception {
+        //Given
+        writeBehind = writeBehind(batchWriter, 10, 1);
+        writeBehind.start();
+        List<PendingQuizHistory> histories = List.of(history(10L), history(20L), history(30L));
+        for (PendingQuizHistory history : histories) {
+            writeBehind.reserve(history);
+            writeBehind.enqueue(history);
+        }
+
+        //When
+        flushGate.release(1); // 첫 건만 반영
+        verify(batchWriter, timeout(2000).times(2)).writeBatch(anyList()); // 두 번째 건에서 다시 멈춤 (그 전에 로그 정리)
+
+        //Then
+        assertThat(Files.readAllLines(logFile, StandardCharsets.UTF_8))
+                .containsExactly(histories.get(1).toLogLine(), histories.get(2).toLogLine());
+        assertThat(writeBehind.findPending(MEMBER_ID, QuizType.DETAIL, 10L)).isEmpty();
+        assertThat(writeBehind.findPending(MEMBER_ID, QuizType.DETAIL, 20L)).isPresent();
+    }
+
+    private QuizHistoryWriteBehind writeBehind(QuizHistoryBatchWriter writer, int capacity, long compactBytes) {
+        return new QuizHistoryWriteBehind(
+                writer, solvedQuizCache, reservationRepository,
+                true, logFile.toString(), 1, capacity, 50, compactBytes, 60);
+    }
+
+    private PendingQuizHistory history(Long quizId) {
+        return new PendingQuizHistory(MEMBER_ID, QuizType.DETAIL, quizId, "OPTION1", true, 10,
+                LocalDateTime.of(2025, 7, 1, 9, 0));
+    }
+}
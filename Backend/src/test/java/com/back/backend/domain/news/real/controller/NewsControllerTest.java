@@ -216,6 +216,76 @@ public class NewsControllerTest {
 
     }
 
-}
+    @Test
+    @DisplayName("GET /api/news/cursor - 커서 기반 뉴스 조회")
+    void t8() throws Exception {
+        //When
+        ResultActions resultActions = mvc.perform(
+                get("/api/news/cursor")
+                        .param("size", "1")
+        ).andDo(print());
 
+        //Then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("getRealNewsListByCursor"))
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").isEmpty());
+    }
 
+    @Test
+    @DisplayName("GET /api/news/cursor - 잘못된 커서")
+    void t9() throws Exception {
+        //When
+        ResultActions resultActions = mvc.perform(
+                get("/api/news/cursor")
+                        .param("cursor", "invalid-cursor")
+        ).andDo(print());
+
+        //Then
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(handler().methodName("getRealNewsListByCursor"))
+                .andExpect(jsonPath("$.code").value(400));
+    }
+
+    @Test
+    @DisplayName("GET /api/news/search/relevance - 검색어 없이 전문 검색")
+    void t10() throws Exception {
+        //When
+        ResultActions resultActions = mvc.perform(
+                get("/api/news/search/relevance")
+                        .param("keyword", " ")
+        ).andDo(print());
+
+        //Then
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(handler().methodName("searchRealNewsByKeyword"))
+                .andExpect(jsonPath("$.code").value(400));
+    }
+
+    @Test
+    @DisplayName("GET /api/news - ETag 가 일치하면 304")
+    void t11() throws Exception {
+        //Given
+        String etag = mvc.perform(get("/api/news"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        //When
+        ResultActions resultActions = mvc.perform(
+                get("/api/news")
+                        .header("If-None-Match", etag)
+        ).andDo(print());
+
+        //Then
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.back.backend.domain.news.real.controller;
+
+import com.back.backend.global.config.TestRqConfig;
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.service.NewsDataService;
+import com.back.domain.news.real.service.RealNewsService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 전문 검색 인덱스는 커밋 이후에 갱신되므로, 테스트 트랜잭션 없이 저장을 커밋하고 끝나면 삭제해 되돌림
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@TestPropertySource(properties = {
+        "NAVER_CLIENT_ID=test_client_id",
+        "NAVER_CLIENT_SECRET=test_client_secret",
+        "GEMINI_API_KEY=api_key"
+})
+@Import(TestRqConfig.class)
+public class NewsSearchControllerTest {
+
+    private static final String KEYWORD = "찰옥수수"; // 초기 데이터의 오늘의 뉴스 제목에도 들어있는 검색어
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private NewsDataService newsDataService;
+
+    @Autowired
+    private RealNewsService realNewsService;
+
+    private Long titleMatchId;
+    private Long contentMatchId;
+    private Long otherCategoryId;
+    private Long secondRankId;
+
+    @BeforeEach
+    void setUp() {
+        // 생성일이 가장 늦은 뉴스가 카테고리 1위가 되도록 미래 시각으로 저장
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<RealNewsDto> saved = newsDataService.saveAllRealNews(List.of(
+                news("찰옥수수 수확 본격화", "강원 지역 찰옥수수 수확이 시작됐다. 올해 찰옥수수 작황은 좋은 편이다.",
+                        NewsCategory.CULTURE, base.plusHours(3)),
+                news("카테고리 2위 찰옥수수 뉴스", "찰옥수수 축제가 열린다.",
+                        NewsCategory.CULTURE, base.plusHours(2)),
+                news("여름 농산물 시장 동향", "수박과 복숭아 출하가 늘었고 찰옥수수도 시장에 나왔다.",
+                        NewsCategory.CULTURE, base.plusHours(1)),
+                news("찰옥수수 가격 상승", "가뭄으로 찰옥수수 가격이 올랐다.",
+                        NewsCategory.ECONOMY, base)
+        ));
+        titleMatchId = saved.get(0).id();
+        secondRankId = saved.get(1).id();
+        contentMatchId = saved.get(2).id();
+        otherCategoryId = saved.get(3).id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long id : List.of(titleMatchId, secondRankId, contentMatchId, otherCategoryId)) {
+            newsDataService.deleteRealNews(id);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/news/search/relevance - 관련도 순 검색, 오늘의 뉴스와 OX 퀴즈 대상(2위) 뉴스 제외")
+    void t1() throws Exception {
+        //Given
+        Long todayNewsId = realNewsService.getTodayNews().orElseThrow().id();
+
+        //When
+        ResultActions resultActions = mvc.perform(
+                get("/api/news/search/relevance")
+                        .param("keyword", KEYWORD)
+        ).andDo(print());
+
+        //Then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("searchRealNewsByKeyword"))
+                .andExpect(jsonPath("$.code").value(200));
+
+        List<Long> ids = resultIds(resultActions);
+        assertThat(ids).contains(titleMatchId, contentMatchId, otherCategoryId);
+        assertThat(ids).doesNotContain(secondRankId, todayNewsId);
+        // 제목에 검색어가 있는 뉴스가 본문에만 있는 뉴스보다 앞
+        assertThat(ids.indexOf(titleMatchId)).isLessThan(ids.indexOf(contentMatchId));
+    }
+
+    @Test
+    @DisplayName("GET /api/news/search/relevance - 카테고리 필터")
+    void t2() throws Exception {
+        //When
+        ResultActions resultActions = mvc.perform(
+                get("/api/news/search/relevance")
+                        .param("keyword", KEYWORD)
+                        .param("category", "economy")
+        ).andDo(print());
+
+        //Then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.content[*].newsCategory").value(everyItem(is("ECONOMY"))));
+
+        List<Long> ids = resultIds(resultActions);
+        assertThat(ids).contains(otherCategoryId);
+        assertThat(ids).doesNotContain(titleMatchId, contentMatchId);
+    }
+
+    @Test
+    @DisplayName("GET /api/news/search/relevance - 조회 범위를 넘는 페이지는 400")
+    void t3() throws Exception {
+        //When
+        ResultActions resultActions = mvc.perform(
+                get("/api/news/search/relevance")
+                        .param("keyword", KEYWORD)
+                        .param("page", String.valueOf(Integer.MAX_VALUE))
+                        .param("size", "100")
+        ).andDo(print());
+
+        //Then
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400));
+    }
+
+    @Test
+    @DisplayName("GET /api/news/search/relevance - 결과 수를 넘는 페이지는 검색 없이 범위 초과 400")
+    void t4() throws Exception {
+        //When
+        ResultActions resultActions = mvc.perform(
+                get("/api/news/search/relevance")
+                        .param("keyword", KEYWORD)
+                        .param("page", "100")
+                        .param("size", "100")
+        ).andDo(print());
+
+        //Then
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.message").value(startsWith("요청한 페이지의 범위 초과")));
+    }
+
+    private List<Long> resultIds(ResultActions resultActions) throws Exception {
+        List<Number> ids = JsonPath.read(resultActions.andReturn().getResponse().getContentAsString(), "$.data.content[*].id");
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    private RealNewsDto news(String title, String content, NewsCategory category, LocalDateTime createdDate) {
+        String link = "http://example.com/search-test/" + title.hashCode();
+        return RealNewsDto.of(
+                null,
+                title,
+                content,
+                content,
+                link,
+                link + "/image.jpg",
+                createdDate,
+                createdDate,
+                "Test Media",
+                "Test Journalist",
+                link,
+                category
+        );
+    }
+}
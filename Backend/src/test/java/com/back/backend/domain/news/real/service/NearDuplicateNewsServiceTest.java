@@ -0,0 +1,89 @@
+package com.back.backend.domain.news.real.service;
+
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.domain.news.real.service.NearDuplicateNewsService;
+import com.back.global.util.SimHash;
+import com.back.global.util.SimHashIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NearDuplicateNewsServiceTest {
+    private static final long HISTORY_FINGERPRINT = 0x0F0F_0F0F_0F0F_0F0FL;
+
+    private NearDuplicateNewsService nearDuplicateNewsService;
+
+    @BeforeEach
+    void setUp() {
+        RealNewsRepository realNewsRepository = mock(RealNewsRepository.class);
+        when(realNewsRepository.findFingerprintsCreatedAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of(HISTORY_FINGERPRINT));
+        nearDuplicateNewsService = new NearDuplicateNewsService(realNewsRepository, 3, 7);
+    }
+
+    @Test
+    @DisplayName("최근 저장된 기사와 거리 3 이하이면 제외, 4 이상이면 통과")
+    void t1() {
+        //Given
+        SimHashIndex index = nearDuplicateNewsService.newIndex();
+
+        //When
+        boolean atThreshold = nearDuplicateNewsService.accept(index, news("거리 3", HISTORY_FINGERPRINT ^ 0b111L));
+        boolean overThreshold = nearDuplicateNewsService.accept(index, news("거리 4", HISTORY_FINGERPRINT ^ 0xF000_0000_0000_0000L));
+
+        //Then
+        assertThat(atThreshold).isFalse();
+        assertThat(overThreshold).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 수집 안에서는 먼저 도착한 기사만 남김")
+    void t2() {
+        //Given
+        SimHashIndex index = nearDuplicateNewsService.newIndex();
+        long fingerprint = ~HISTORY_FINGERPRINT;
+
+        //When
+        boolean first = nearDuplicateNewsService.accept(index, news("먼저 도착", fingerprint));
+        boolean second = nearDuplicateNewsService.accept(index, news("나중 도착", fingerprint ^ 0b1L));
+
+        //Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 지문이 없으면 본문으로 계산해 비교")
+    void t3() {
+        //Given
+        SimHashIndex index = nearDuplicateNewsService.newIndex();
+        String content = "서울시는 올해 여름 폭염에 대비해 무더위 쉼터를 운영한다고 밝혔다.";
+        index.add(SimHash.fingerprint(content));
+
+        //When
+        boolean accepted = nearDuplicateNewsService.accept(index, news("지문 없음", content, null));
+
+        //Then
+        assertThat(accepted).isFalse();
+    }
+
+    private RealNewsDto news(String title, long fingerprint) {
+        return news(title, "본문", fingerprint);
+    }
+
+    private RealNewsDto news(String title, String content, Long fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        return RealNewsDto.of(null, title, content, content, "http://example.com/" + title.hashCode(), "",
+                now, now, "Test Media", "Test Journalist", "", NewsCategory.NOT_FILTERED, fingerprint);
+    }
+}
@@ -0,0 +1,108 @@
+package com.back.backend.domain.news.real.service;
+
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.real.dto.RealNewsDto;
+import com.back.domain.news.real.service.NewsBatchPlanner;
+import com.back.global.ai.AiTokenEstimator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsBatchPlannerTest {
+    private NewsBatchPlanner newsBatchPlanner;
+
+    @BeforeEach
+    void setUp() {
+        newsBatchPlanner = new NewsBatchPlanner();
+        ReflectionTestUtils.setField(newsBatchPlanner, "maxBatchTokens", 100);
+        ReflectionTestUtils.setField(newsBatchPlanner, "maxArticleTokens", 60);
+        ReflectionTestUtils.setField(newsBatchPlanner, "maxBatchSize", 3);
+    }
+
+    @Test
+    @DisplayName("토큰 합이 예산을 넘기 직전까지 한 배치에 담음")
+    void t1() {
+        //Given
+        NewsBatchPlanner.Batcher batcher = newsBatchPlanner.newBatcher();
+        RealNewsDto first = news("첫 기사", "가".repeat(40));
+        RealNewsDto second = news("둘째 기사", "나".repeat(40));
+        RealNewsDto third = news("셋째 기사", "다".repeat(40));
+
+        //When
+        Optional<List<RealNewsDto>> afterFirst = batcher.add(first);
+        Optional<List<RealNewsDto>> afterSecond = batcher.add(second);
+        Optional<List<RealNewsDto>> afterThird = batcher.add(third); // 40 + 40 + 40 > 100
+
+        //Then
+        assertThat(afterFirst).isEmpty();
+        assertThat(afterSecond).isEmpty();
+        assertThat(afterThird).hasValueSatisfying(batch -> assertThat(batch).containsExactly(first, second));
+        assertThat(batcher.flush()).hasValueSatisfying(batch -> assertThat(batch).containsExactly(third));
+        assertThat(batcher.flush()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰이 남아도 최대 기사 수를 넘지 않음")
+    void t2() {
+        //Given
+        NewsBatchPlanner.Batcher batcher = newsBatchPlanner.newBatcher();
+
+        //When
+        for (int i = 0; i < 3; i++) {
+            assertThat(batcher.add(news("짧은 기사 " + i, "짧은 본문"))).isEmpty();
+        }
+        Optional<List<RealNewsDto>> full = batcher.add(news("네 번째 기사", "짧은 본문"));
+
+        //Then
+        assertThat(full).hasValueSatisfying(batch -> assertThat(batch).hasSize(3));
+    }
+
+    @Test
+    @DisplayName("기사 하나가 최대 토큰을 넘으면 문장 끝에서 잘라내고 원문 지문은 유지")
+    void t3() {
+        //Given
+        NewsBatchPlanner.Batcher batcher = newsBatchPlanner.newBatcher();
+        String longContent = "가".repeat(40) + ". " + "나".repeat(40) + ". ";
+        RealNewsDto longNews = RealNewsDto.of(null, "긴 기사", longContent, "", "http://example.com/long", "",
+                LocalDateTime.now(), LocalDateTime.now(), "Test Media", "Test Journalist", "", NewsCategory.NOT_FILTERED, 7L);
+
+        //When
+        batcher.add(longNews);
+        RealNewsDto fitted = batcher.flush().orElseThrow().getFirst();
+
+        //Then
+        assertThat(fitted.content()).isEqualTo("가".repeat(40) + ".");
+        assertThat(AiTokenEstimator.estimate(fitted.content())).isLessThanOrEqualTo(60);
+        assertThat(fitted.contentFingerprint()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("예산보다 큰 기사도 빈 배치에는 혼자 담김")
+    void t4() {
+        //Given
+        ReflectionTestUtils.setField(newsBatchPlanner, "maxArticleTokens", 1000);
+        NewsBatchPlanner.Batcher batcher = newsBatchPlanner.newBatcher();
+        RealNewsDto huge = news("큰 기사", "가".repeat(150));
+
+        //When
+        Optional<List<RealNewsDto>> afterHuge = batcher.add(huge);
+        Optional<List<RealNewsDto>> afterNext = batcher.add(news("다음 기사", "짧은 본문"));
+
+        //Then
+        assertThat(afterHuge).isEmpty();
+        assertThat(afterNext).hasValueSatisfying(batch -> assertThat(batch).containsExactly(huge));
+    }
+
+    private RealNewsDto news(String title, String content) {
+        LocalDateTime now = LocalDateTime.now();
+        return RealNewsDto.of(null, title, content, "", "http://example.com/" + title.hashCode(), "",
+                now, now, "Test Media", "Test Journalist", "", NewsCategory.NOT_FILTERED, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.back.backend.domain.quiz.common.service;
+
+import com.back.domain.member.member.entity.Member;
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.member.member.service.MemberService;
+import com.back.domain.quiz.QuizType;
+import com.back.domain.quiz.common.service.QuizSubmissionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 제출마다 각자 트랜잭션을 커밋해야 하므로 클래스에 @Transactional 을 두지 않고, 만든 회원은 테스트 후 삭제
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "NAVER_CLIENT_ID=test_client_id",
+        "NAVER_CLIENT_SECRET=test_client_secret",
+        "GEMINI_API_KEY=api_key"
+})
+class QuizSubmissionServiceTest {
+    private static final int THREADS = 10;
+
+    @Autowired
+    private QuizSubmissionService quizSubmissionService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberService.join("submitUser", "12341234", "submit@test.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.findById(member.getId()).ifPresent(memberService::withdraw);
+    }
+
+    @Test
+    @DisplayName("한 회원이 서로 다른 퀴즈를 동시에 제출해도 경험치가 유실되지 않고 레벨이 함께 반영됨")
+    void t1() throws Exception {
+        //Given
+        int submissions = 25;
+        int gainExp = 10;
+
+        //When
+        List<Boolean> results = submitConcurrently(submissions, i -> (long) (i + 1), gainExp);
+
+        //Then
+        assertThat(results).containsOnly(true);
+        Member updated = memberRepository.findById(member.getId()).orElseThrow();
+        assertThat(updated.getExp()).isEqualTo(submissions * gainExp);
+        assertThat(updated.getLevel()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 퀴즈를 동시에 여러 번 제출하면 한 번만 저장되고 경험치도 한 번만 오름")
+    void t2() throws Exception {
+        //Given
+        int submissions = THREADS;
+        int gainExp = 10;
+
+        //When
+        List<Boolean> results = submitConcurrently(submissions, i -> 1L, gainExp);
+
+        //Then
+        assertThat(results).containsOnlyOnce(true);
+        Member updated = memberRepository.findById(member.getId()).orElseThrow();
+        assertThat(updated.getExp()).isEqualTo(gainExp);
+        assertThat(updated.getLevel()).isEqualTo(1);
+    }
+
+    // 모든 스레드를 한 번에 출발시켜 제출하고, 제출별 성공 여부를 반환
+    private List<Boolean> submitConcurrently(int submissions, IntFunction<Long> quizIdOf, int gainExp)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < submissions; i++) {
+                Long quizId = quizIdOf.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        quizSubmissionService.submit(member, quizId, QuizType.DETAIL, "OPTION1", true, gainExp);
+                        return true;
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.back.backend.domain.quiz.detail.controller;
+
+import com.back.backend.global.config.TestRqConfig;
+import com.back.domain.quiz.detail.dto.DetailQuizDto;
+import com.back.domain.quiz.detail.service.DetailQuizService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// AI 응답 캐시를 켠 상태에서 다시 생성 API 가 캐시된 응답 대신 AI 를 새로 호출하는지 확인
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@Transactional
+@TestPropertySource(properties = {
+        "NAVER_CLIENT_ID=test_client_id",
+        "NAVER_CLIENT_SECRET=test_client_secret",
+        "GEMINI_API_KEY=api_key",
+        "ai.cache.enabled=true",
+        "ai.cache.dir=./build/test-ai-cache/${random.uuid}"
+})
+@Import(TestRqConfig.class)
+class DetailQuizRegenerateControllerTest {
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private DetailQuizService detailQuizService;
+
+    @MockitoBean
+    private ChatModel chatModel;
+
+    @Test
+    @DisplayName("POST /api/quiz/detail/news/{newsId}/regenerate - 캐시된 AI 응답이 있어도 새로 생성")
+    void regenerate_bypassesResponseCache() throws Exception {
+        // Given
+        Long newsId = 1L;
+        when(chatModel.stream(any(Prompt.class)))
+                .thenReturn(quizResponse("이전 문제"), quizResponse("새 문제"));
+
+        List<DetailQuizDto> cached = detailQuizService.generateQuizzes(newsId); // 응답이 캐시됨
+        assertThat(cached.getFirst().question()).isEqualTo("이전 문제1");
+
+        // When
+        ResultActions resultActions = mvc.perform(post("/api/quiz/detail/news/{newsId}/regenerate", newsId))
+                .andDo(print());
+
+        // Then
+        resultActions
+                .andExpect(status().isCreated())
+                .andExpect(handler().methodName("generateDetailQuizzes"))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].question").value("새 문제1"));
+        verify(chatModel, times(2)).stream(any(Prompt.class));
+
+        // 다시 생성한 응답으로 캐시가 교체되어, 이후 일반 생성은 AI 호출 없이 새 응답을 사용
+        assertThat(detailQuizService.generateQuizzes(newsId).getFirst().question()).isEqualTo("새 문제1");
+        verify(chatModel, times(2)).stream(any(Prompt.class));
+    }
+
+    private Flux<ChatResponse> quizResponse(String prefix) {
+        String json = """
+                [
+                  {"question": "%1$s1", "option1": "a", "option2": "b", "option3": "c", "correctOption": "OPTION1"},
+                  {"question": "%1$s2", "option1": "a", "option2": "b", "option3": "c", "correctOption": "OPTION2"},
+                  {"question": "%1$s3", "option1": "a", "option2": "b", "option3": "c", "correctOption": "OPTION3"}
+                ]
+                """.formatted(prefix);
+        return Flux.just(new ChatResponse(List.of(new Generation(new AssistantMessage(json)))));
+    }
+}
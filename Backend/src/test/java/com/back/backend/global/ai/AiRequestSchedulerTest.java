@@ -0,0 +1,109 @@
+package com.back.backend.global.ai;
+
+import com.back.global.ai.AiRequestPriority;
+import com.back.global.ai.AiRequestScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiRequestSchedulerTest {
+    private AiRequestScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("분당 요청 수(RPM)를 모두 쓰면 다음 요청은 대기")
+    void t1() {
+        //Given
+        scheduler = new AiRequestScheduler(2, 1000);
+
+        //When
+        CompletableFuture<Void> first = scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 10);
+        CompletableFuture<Void> second = scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 10);
+        CompletableFuture<Void> third = scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 10);
+
+        //Then
+        assertThat(first).isDone();
+        assertThat(second).isDone();
+        assertThat(third).isNotDone();
+        assertThat(scheduler.getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("분당 토큰 수(TPM)가 부족하면 요청 수가 남아 있어도 대기")
+    void t2() {
+        //Given
+        scheduler = new AiRequestScheduler(10, 100);
+
+        //When
+        CompletableFuture<Void> first = scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 60);
+        CompletableFuture<Void> second = scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 60);
+
+        //Then
+        assertThat(first).isDone();
+        assertThat(second).isNotDone();
+    }
+
+    @Test
+    @DisplayName("TPM 한도보다 큰 요청은 한도로 보정되어 영원히 대기하지 않음")
+    void t3() {
+        //Given
+        scheduler = new AiRequestScheduler(10, 100);
+
+        //When
+        CompletableFuture<Void> huge = scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 10_000);
+
+        //Then
+        assertThat(huge).isDone();
+    }
+
+    @Test
+    @DisplayName("쿼터가 생기면 도착 순서와 관계없이 높은 우선순위 요청부터 할당")
+    void t4() throws Exception {
+        //Given
+        scheduler = new AiRequestScheduler(60, 100_000); // 1초에 요청 1건 보충
+        List<CompletableFuture<Void>> exhausted = IntStream.range(0, 60)
+                .mapToObj(i -> scheduler.acquire(AiRequestPriority.DETAIL_QUIZ, 1))
+                .toList();
+        assertThat(exhausted).allMatch(CompletableFuture::isDone);
+
+        //When
+        CompletableFuture<Void> detailQuiz = scheduler.acquire(AiRequestPriority.DETAIL_QUIZ, 1);
+        CompletableFuture<Void> analysis = scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 1);
+        CompletableFuture<Void> keyword = scheduler.acquire(AiRequestPriority.KEYWORD_GENERATION, 1);
+
+        //Then
+        keyword.get(3, TimeUnit.SECONDS);
+        assertThat(analysis).isNotDone();
+        assertThat(detailQuiz).isNotDone();
+
+        analysis.get(3, TimeUnit.SECONDS);
+        assertThat(detailQuiz).isNotDone();
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청을 취소하면 대기열에서 제거")
+    void t5() {
+        //Given
+        scheduler = new AiRequestScheduler(1, 1000);
+        scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 10);
+        CompletableFuture<Void> waiting = scheduler.acquire(AiRequestPriority.NEWS_ANALYSIS, 10);
+        assertThat(scheduler.getQueueDepth()).isEqualTo(1);
+
+        //When
+        waiting.cancel(false);
+
+        //Then
+        assertThat(scheduler.getQueueDepth()).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package com.back.backend.global.ai;
+
+import com.back.global.ai.AiResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiResponseCacheTest {
+    private static final String TYPE = "DetailQuizProcessor";
+    private static final String LARGE_RESPONSE = "x".repeat(400 * 1024); // 1MB 한도에 세 개는 담기지 않는 크기
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장한 응답은 같은 키로 다시 조회되고, 재시작 후에도 유지")
+    void t1() {
+        //Given
+        AiResponseCache cache = newCache(72, 100);
+        String key = cache.key(TYPE, "prompt");
+        cache.put(key, "response");
+
+        //When
+        AiResponseCache restarted = newCache(72, 100);
+
+        //Then
+        assertThat(cache.get(TYPE, key)).contains("response");
+        assertThat(restarted.get(TYPE, key)).contains("response");
+        assertThat(cache.key("FakeNewsGeneratorProcessor", "prompt")).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 응답은 조회되지 않음")
+    void t2() throws Exception {
+        //Given
+        AiResponseCache cache = newCache(0, 100);
+        String key = cache.key(TYPE, "prompt");
+        cache.put(key, "response");
+        Thread.sleep(5);
+
+        //When & Then
+        assertThat(cache.get(TYPE, key)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 응답부터 삭제")
+    void t3() throws Exception {
+        //Given
+        AiResponseCache cache = newCache(72, 1);
+        String first = cache.key(TYPE, "first");
+        String second = cache.key(TYPE, "second");
+        String third = cache.key(TYPE, "third");
+        cache.put(first, LARGE_RESPONSE);
+        Thread.sleep(5);
+        cache.put(second, LARGE_RESPONSE);
+        Thread.sleep(5);
+        assertThat(cache.get(TYPE, first)).isPresent(); // first 를 최근 사용으로 갱신
+        Thread.sleep(5);
+
+        //When
+        cache.put(third, LARGE_RESPONSE);
+
+        //Then
+        assertThat(cache.get(TYPE, second)).isEmpty();
+        assertThat(cache.get(TYPE, first)).isPresent();
+        assertThat(cache.get(TYPE, third)).isPresent();
+    }
+
+    @Test
+    @DisplayName("다시 생성(refreshCache)한 응답은 같은 키의 이전 응답을 교체")
+    void t4() {
+        //Given
+        AiResponseCache cache = newCache(72, 100);
+        String key = cache.key(TYPE, "prompt");
+        cache.put(key, "이전 응답");
+
+        //When
+        cache.put(key, "새 응답");
+
+        //Then
+        assertThat(cache.get(TYPE, key)).contains("새 응답");
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 응답은 evict 로 제거")
+    void t5() {
+        //Given
+        AiResponseCache cache = newCache(72, 100);
+        String key = cache.key(TYPE, "prompt");
+        cache.put(key, "not json");
+
+        //When
+        cache.evict(key);
+
+        //Then
+        assertThat(cache.get(TYPE, key)).isEmpty();
+        assertThat(dir.resolve(key + ".json")).doesNotExist();
+    }
+
+    private AiResponseCache newCache(long ttlHours, long maxSizeMb) {
+        AiResponseCache cache = new AiResponseCache(new ObjectMapper(), new SimpleMeterRegistry(), true,
+                dir.toString(), ttlHours, maxSizeMb, "gemini-2.5-flash", "0.5");
+        cache.loadIndex();
+        return cache;
+    }
+}
@@ -0,0 +1,116 @@
+package com.back.backend.global.ai.stream;
+
+import com.back.global.ai.stream.JsonArrayStreamParser;
+import com.back.global.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonArrayStreamParserTest {
+    record Item(String name, int value) {}
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Item> received = new ArrayList<>();
+
+    @Test
+    @DisplayName("한 글자씩 나뉘어 도착해도, 문자열 안의 괄호와 이스케이프는 요소 경계로 보지 않음")
+    void t1() {
+        //Given
+        JsonArrayStreamParser<Item> parser = newParser();
+        String first = "{\"name\": \"a}]\\\"{\\\\\", \"value\": 1}";
+        String second = "{\"name\": \"[b]\", \"value\": 2}";
+
+        //When
+        feedByChar(parser, "[" + first + ",");
+        List<Item> afterFirst = List.copyOf(received);
+        feedByChar(parser, " " + second + "]");
+
+        //Then
+        assertThat(afterFirst).containsExactly(new Item("a}]\"{\\", 1)); // 첫 요소는 닫히는 즉시 전달
+        assertThat(parser.complete()).containsExactly(new Item("a}]\"{\\", 1), new Item("[b]", 2));
+    }
+
+    @Test
+    @DisplayName("코드 블록 표시로 감싼 응답도 파싱하고, 배열 이후의 텍스트는 무시")
+    void t2() {
+        //Given
+        JsonArrayStreamParser<Item> parser = newParser();
+
+        //When
+        parser.onChunk("``");
+        parser.onChunk("`json\n[{\"name\": \"a\", ");
+        parser.onChunk("\"value\": 1}]\n```");
+
+        //Then
+        assertThat(parser.complete()).containsExactly(new Item("a", 1));
+    }
+
+    @Test
+    @DisplayName("JSON 배열로 시작하지 않으면 첫 조각에서 바로 중단")
+    void t3() {
+        //Given
+        JsonArrayStreamParser<Item> parser = newParser();
+
+        //When & Then
+        assertThatThrownBy(() -> parser.onChunk("죄송하지만 요청을"))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("배열 요소가 객체가 아니거나 요소 사이 형식이 틀리면 그 자리에서 중단")
+    void t4() {
+        //Given
+        JsonArrayStreamParser<Item> notObject = newParser();
+        JsonArrayStreamParser<Item> missingComma = newParser();
+        missingComma.onChunk("[{\"name\": \"a\", \"value\": 1}");
+
+        //When & Then
+        assertThatThrownBy(() -> notObject.onChunk("[\"text\"]"))
+                .isInstanceOf(ServiceException.class);
+        assertThatThrownBy(() -> missingComma.onChunk(" {"))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("요소 콜백이 예외를 던지면 파싱도 중단")
+    void t5() {
+        //Given
+        JsonArrayStreamParser<Item> parser = new JsonArrayStreamParser<>(objectMapper, Item.class, item -> {
+            throw new ServiceException(500, "요소 검증 실패");
+        });
+
+        //When & Then
+        assertThatThrownBy(() -> parser.onChunk("[{\"name\": \"a\", \"value\": 1}"))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("요소 검증 실패");
+    }
+
+    @Test
+    @DisplayName("배열이 닫히지 않은 채 스트림이 끝나면 실패")
+    void t6() {
+        //Given
+        JsonArrayStreamParser<Item> parser = newParser();
+        parser.onChunk("[{\"name\": \"a\", \"value\": 1}, {\"name\": \"b\"");
+
+        //When & Then
+        assertThatThrownBy(parser::complete)
+                .isInstanceOf(ServiceException.class);
+        assertThat(received).hasSize(1);
+    }
+
+    private JsonArrayStreamParser<Item> newParser() {
+        return new JsonArrayStreamParser<>(objectMapper, Item.class, received::add);
+    }
+
+    private void feedByChar(JsonArrayStreamParser<Item> parser, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            parser.onChunk(String.valueOf(text.charAt(i)));
+        }
+    }
+}
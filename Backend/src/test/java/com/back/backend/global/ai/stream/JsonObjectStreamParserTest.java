@@ -0,0 +1,67 @@
+package com.back.backend.global.ai.stream;
+
+import com.back.global.ai.stream.JsonObjectStreamParser;
+import com.back.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonObjectStreamParserTest {
+
+    @Test
+    @DisplayName("코드 블록 표시가 여러 조각으로 나뉘어 와도 전체 텍스트를 변환")
+    void t1() {
+        //Given
+        JsonObjectStreamParser<String> parser = new JsonObjectStreamParser<>(Function.identity());
+
+        //When
+        parser.onChunk("``");
+        parser.onChunk("`js");
+        parser.onChunk("on\n{\"content\": \"{본문}\"");
+        parser.onChunk("}\n```");
+
+        //Then
+        assertThat(parser.complete()).isEqualTo("```json\n{\"content\": \"{본문}\"}\n```");
+    }
+
+    @Test
+    @DisplayName("JSON 객체로 시작하지 않으면 첫 조각에서 바로 중단")
+    void t2() {
+        //Given
+        JsonObjectStreamParser<String> parser = new JsonObjectStreamParser<>(Function.identity());
+
+        //When & Then
+        assertThatThrownBy(() -> parser.onChunk("I cannot help"))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("시작 이후의 조각은 형식을 다시 검사하지 않음")
+    void t3() {
+        //Given
+        JsonObjectStreamParser<String> parser = new JsonObjectStreamParser<>(Function.identity());
+        parser.onChunk("{");
+
+        //When
+        parser.onChunk("\"content\": \"아무 텍스트나 ``` 포함\"}");
+
+        //Then
+        assertThat(parser.complete()).startsWith("{").endsWith("}");
+    }
+
+    @Test
+    @DisplayName("객체가 시작되지 않은 채 끝나면 빈 응답으로 실패")
+    void t4() {
+        //Given
+        JsonObjectStreamParser<String> parser = new JsonObjectStreamParser<>(Function.identity());
+        parser.onChunk("  ");
+
+        //When & Then
+        assertThatThrownBy(parser::complete)
+                .isInstanceOf(ServiceException.class);
+    }
+}
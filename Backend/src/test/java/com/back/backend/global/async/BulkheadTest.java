@@ -0,0 +1,52 @@
+package com.back.backend.global.async;
+
+import com.back.global.async.Bulkhead;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadTest {
+
+    @Test
+    @DisplayName("허가가 없으면 acquireAsync 는 스레드를 막지 않고 대기하다, release 시 순서대로 허가를 넘겨받음")
+    void t1() {
+        //Given
+        Bulkhead bulkhead = new Bulkhead("test", 1);
+        CompletableFuture<Void> first = bulkhead.acquireAsync();
+
+        //When
+        CompletableFuture<Void> second = bulkhead.acquireAsync();
+        CompletableFuture<Void> third = bulkhead.acquireAsync();
+
+        //Then
+        assertThat(first).isDone();
+        assertThat(second).isNotDone();
+        assertThat(bulkhead.getQueueLength()).isEqualTo(2);
+
+        bulkhead.release();
+        assertThat(second).isDone();
+        assertThat(third).isNotDone();
+        assertThat(bulkhead.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허가를 받기 전에 취소한 대기자는 건너뛰고, 대기자가 없으면 허가를 반환")
+    void t2() {
+        //Given
+        Bulkhead bulkhead = new Bulkhead("test", 1);
+        bulkhead.acquireAsync();
+        CompletableFuture<Void> cancelled = bulkhead.acquireAsync();
+        cancelled.cancel(false);
+
+        //When
+        bulkhead.release();
+
+        //Then
+        assertThat(bulkhead.getQueueLength()).isZero();
+        assertThat(bulkhead.getInFlight()).isZero();
+        assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok");
+    }
+}
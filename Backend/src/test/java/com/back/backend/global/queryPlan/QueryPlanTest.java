@@ -0,0 +1,177 @@
+package com.back.backend.global.queryPlan;
+
+import com.back.domain.member.member.repository.MemberRepository;
+import com.back.domain.member.quizhistory.repository.QuizHistoryRepository;
+import com.back.domain.news.common.enums.NewsCategory;
+import com.back.domain.news.common.repository.CrawlCacheRepository;
+import com.back.domain.news.common.repository.KeywordHistoryRepository;
+import com.back.domain.news.real.repository.RealNewsRepository;
+import com.back.domain.news.today.repository.TodayNewsRepository;
+import com.back.domain.quiz.QuizType;
+import com.back.domain.quiz.daily.repository.DailyQuizRepository;
+import com.back.domain.quiz.detail.repository.DetailQuizRepository;
+import com.back.domain.quiz.fact.repository.FactQuizRepository;
+import com.back.global.cache.CacheInvalidationEventRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 리포지토리 조회가 인덱스를 사용하는지 H2 실행 계획으로 확인합니다.
+ * 손으로 옮긴 SQL 대신 리포지토리 메서드를 실제로 호출해 Hibernate 가 만든 SQL 을 가로채 EXPLAIN 하므로,
+ * 조회 조건을 바꾸면 이 테스트가 바뀐 조건을 그대로 검사합니다.
+ * 테스트 스키마는 엔티티의 @Table(indexes) 로 만들어지므로, 운영 마이그레이션(db/migration)의 인덱스도 엔티티와 같게 유지합니다.
+ * 제목 부분 검색(LIKE '%..%')이나 선택 조건(:x IS NULL OR ...)처럼 인덱스로 처리할 수 없는 조회는 목록에 넣지 않습니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+        "NAVER_CLIENT_ID=test_client_id",
+        "NAVER_CLIENT_SECRET=test_client_secret",
+        "GEMINI_API_KEY=api_key",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.back.backend.global.queryPlan.QueryPlanTest$SqlCapture"
+})
+class QueryPlanTest {
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("/\\* ([\\w.\"]+)\\.tableScan");
+
+    // 테스트 스레드에서 Hibernate 가 실행하는 SQL 을 기록 (설정에 클래스 이름으로 등록되므로 public, 기본 생성자 필요)
+    public static class SqlCapture implements StatementInspector {
+        private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+        private static volatile Thread capturingThread;
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == capturingThread) {
+                CAPTURED.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RealNewsRepository realNewsRepository;
+    @Autowired
+    private FactQuizRepository factQuizRepository;
+    @Autowired
+    private DetailQuizRepository detailQuizRepository;
+    @Autowired
+    private DailyQuizRepository dailyQuizRepository;
+    @Autowired
+    private TodayNewsRepository todayNewsRepository;
+    @Autowired
+    private KeywordHistoryRepository keywordHistoryRepository;
+    @Autowired
+    private QuizHistoryRepository quizHistoryRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CrawlCacheRepository crawlCacheRepository;
+    @Autowired
+    private CacheInvalidationEventRepository cacheInvalidationEventRepository;
+
+    @Test
+    @DisplayName("주요 리포지토리 조회는 전체 스캔 없이 인덱스를 사용")
+    void t1() {
+        //Given
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+        Map<String, Runnable> hotQueries = new LinkedHashMap<>();
+        hotQueries.put("RealNewsRepository.existsByLink", () -> realNewsRepository.existsByLink("https://example.com"));
+        hotQueries.put("RealNewsRepository.existsByTitle", () -> realNewsRepository.existsByTitle("title"));
+        hotQueries.put("RealNewsRepository.findExistingLinks", () -> realNewsRepository.findExistingLinks(List.of("https://example.com/1", "https://example.com/2")));
+        hotQueries.put("RealNewsRepository.findByCreatedDateBetween", () -> realNewsRepository.findByCreatedDateBetween(now.minusDays(1), now));
+        hotQueries.put("RealNewsRepository.findFingerprintsCreatedAfter", () -> realNewsRepository.findFingerprintsCreatedAfter(now.minusDays(1)));
+        hotQueries.put("RealNewsRepository.findByCategoryExcludingNthAfter", () -> realNewsRepository.findByCategoryExcludingNthAfter(NewsCategory.IT, now, Long.MAX_VALUE, null, 2, Limit.of(20)));
+        hotQueries.put("RealNewsRepository.findNthRankByCategory", () -> realNewsRepository.findNthRankByCategory(NewsCategory.IT, 1));
+        hotQueries.put("RealNewsRepository.findIdsByCategoryRank", () -> realNewsRepository.findIdsByCategoryRank(2));
+        hotQueries.put("FactQuizRepository.findByRealNewsId", () -> factQuizRepository.findByRealNewsId(1L));
+        hotQueries.put("DetailQuizRepository.findByRealNewsId", () -> detailQuizRepository.findByRealNewsId(1L));
+        hotQueries.put("DailyQuizRepository.findByTodayNewsId", () -> dailyQuizRepository.findByTodayNewsId(1L));
+        hotQueries.put("TodayNewsRepository.findBySelectedDate", () -> todayNewsRepository.findBySelectedDate(today));
+        hotQueries.put("KeywordHistoryRepository.findOverusedKeywords", () -> keywordHistoryRepository.findOverusedKeywords(today.minusDays(7), 3));
+        hotQueries.put("KeywordHistoryRepository.findKeywordsByUsedDate", () -> keywordHistoryRepository.findKeywordsByUsedDate(today));
+        hotQueries.put("KeywordHistoryRepository.findByKeywordsAndCategoryAndUsedDate", () -> keywordHistoryRepository.findByKeywordsAndCategoryAndUsedDate(List.of("a", "b"), NewsCategory.IT, today));
+        hotQueries.put("QuizHistoryRepository.findSolvedQuizzesByMemberId", () -> quizHistoryRepository.findSolvedQuizzesByMemberId(1L));
+        hotQueries.put("QuizHistoryRepository.existsByMemberIdAndQuizIdAndQuizType", () -> quizHistoryRepository.existsByMemberIdAndQuizIdAndQuizType(1L, 1L, QuizType.FACT));
+        hotQueries.put("MemberRepository.findByApiKey", () -> memberRepository.findByApiKey("key"));
+        hotQueries.put("MemberRepository.findByOauthId", () -> memberRepository.findByOauthId("oauth"));
+        hotQueries.put("CrawlCacheRepository.findByUrl", () -> crawlCacheRepository.findByUrl("https://example.com"));
+        hotQueries.put("CrawlCacheRepository.findByUrlIn", () -> crawlCacheRepository.findByUrlIn(List.of("https://example.com/1", "https://example.com/2")));
+        hotQueries.put("CacheInvalidationEventRepository.findByIdGreaterThanOrderByIdAsc", () -> cacheInvalidationEventRepository.findByIdGreaterThanOrderByIdAsc(1L));
+        hotQueries.put("CacheInvalidationEventRepository.findByIdIn", () -> cacheInvalidationEventRepository.findByIdIn(List.of(1L, 2L)));
+
+        //When
+        List<String> fullScans = new ArrayList<>();
+        hotQueries.forEach((name, query) -> {
+            for (String sql : capture(query)) {
+                List<String> scannedTables = explain(sql);
+                if (!scannedTables.isEmpty()) {
+                    fullScans.add(name + " " + scannedTables + " - " + sql);
+                }
+            }
+        });
+
+        //Then
+        assertThat(fullScans).isEmpty();
+    }
+
+    private List<String> capture(Runnable query) {
+        SqlCapture.CAPTURED.clear();
+        SqlCapture.capturingThread = Thread.currentThread();
+        try {
+            query.run();
+        } finally {
+            SqlCapture.capturingThread = null;
+        }
+        assertThat(SqlCapture.CAPTURED).isNotEmpty();
+        return List.copyOf(SqlCapture.CAPTURED);
+    }
+
+    // 전체 스캔하는 테이블 목록. 실행 계획은 파라미터 값과 무관하므로 모두 null 로 바인딩
+    private List<String> explain(String sql) {
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getString(1) : "";
+                }
+            }
+        });
+
+        List<String> tables = new ArrayList<>();
+        Matcher matcher = H2_TABLE_SCAN.matcher(plan == null ? "" : plan);
+        while (matcher.find()) {
+            tables.add(matcher.group(1));
+        }
+        return tables;
+    }
+}
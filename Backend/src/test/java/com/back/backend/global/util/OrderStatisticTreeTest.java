@@ -0,0 +1,104 @@
+package com.back.backend.global.util;
+
+import com.back.global.util.OrderStatisticTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    @DisplayName("추가와 삭제를 섞은 뒤에도 rank, get, range 가 정렬 순서와 일치")
+    void t1() {
+        //Given
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        for (int i = 1; i <= 10; i++) {
+            tree.add(i * 10);
+        }
+
+        //When
+        tree.remove(30);
+        tree.add(35);
+        tree.remove(100);
+        tree.add(5);
+        tree.remove(60);
+
+        //Then - 5, 10, 20, 35, 40, 50, 70, 80, 90
+        assertThat(tree.size()).isEqualTo(9);
+        assertThat(tree.rank(5)).isZero();
+        assertThat(tree.rank(35)).isEqualTo(3);
+        assertThat(tree.rank(70)).isEqualTo(6);
+        assertThat(tree.rank(60)).isEqualTo(6); // 없는 원소는 앞에 있는 원소 수
+        assertThat(tree.get(0)).isEqualTo(5);
+        assertThat(tree.get(3)).isEqualTo(35);
+        assertThat(tree.get(8)).isEqualTo(90);
+        assertThat(tree.range(2, 4)).containsExactly(20, 35, 40, 50);
+    }
+
+    @Test
+    @DisplayName("무작위로 추가/삭제해도 TreeSet 과 같은 순위와 원소를 반환")
+    void t2() {
+        //Given
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+
+        //When
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                assertThat(tree.add(key)).isEqualTo(expected.add(key));
+            } else {
+                assertThat(tree.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        //Then
+        List<Integer> sorted = new ArrayList<>(expected);
+        assertThat(tree.size()).isEqualTo(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(tree.get(i)).isEqualTo(sorted.get(i));
+            assertThat(tree.rank(sorted.get(i))).isEqualTo(i);
+        }
+        assertThat(tree.range(0, sorted.size())).isEqualTo(sorted);
+    }
+
+    @Test
+    @DisplayName("비교 기준이 같은 원소는 한 번만 저장")
+    void t3() {
+        //Given
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+
+        //When
+        boolean first = tree.add(7);
+        boolean second = tree.add(7);
+
+        //Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.contains(7)).isTrue();
+    }
+
+    @Test
+    @DisplayName("range 는 범위를 벗어난 부분을 잘라내고, get 은 범위 밖이면 예외")
+    void t4() {
+        //Given
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List.of(1, 2, 3).forEach(tree::add);
+
+        //When & Then
+        assertThat(tree.range(-2, 4)).containsExactly(1, 2);
+        assertThat(tree.range(2, 10)).containsExactly(3);
+        assertThat(tree.range(5, 3)).isEmpty();
+        assertThatThrownBy(() -> tree.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
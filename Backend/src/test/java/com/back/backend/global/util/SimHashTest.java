@@ -0,0 +1,90 @@
+package com.back.backend.global.util;
+
+import com.back.global.util.SimHash;
+import com.back.global.util.SimHashIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimHashTest {
+    private static final String ARTICLE = "서울시는 17일 올해 여름 폭염에 대비해 무더위 쉼터 1200곳을 운영한다고 밝혔다. "
+            + "쉼터는 주민센터와 경로당, 은행 지점 등에 마련되며 오전 9시부터 오후 9시까지 문을 연다. "
+            + "시는 폭염 특보가 내려지면 운영 시간을 자정까지 늘릴 계획이다.";
+    private static final String OTHER_ARTICLE = "한국은행은 기준금리를 연 3.5%로 동결했다. "
+            + "금융통화위원회는 물가 상승률이 목표 수준에 근접했지만 가계부채 증가세가 여전하다고 판단했다. "
+            + "시장에서는 연내 인하 가능성을 점치고 있다.";
+
+    @Test
+    @DisplayName("공백과 문장부호만 다른 본문은 같은 지문")
+    void t1() {
+        //Given
+        String reformatted = ARTICLE.replace(" ", "  ").replace(".", "!");
+
+        //When
+        long original = SimHash.fingerprint(ARTICLE);
+        long changed = SimHash.fingerprint(reformatted);
+
+        //Then
+        assertThat(SimHash.distance(original, changed)).isZero();
+    }
+
+    @Test
+    @DisplayName("일부만 고친 본문은 가깝고, 다른 기사는 멀다")
+    void t2() {
+        //Given
+        String edited = ARTICLE.replace("1200곳", "1300곳");
+
+        //When
+        long original = SimHash.fingerprint(ARTICLE);
+
+        //Then
+        assertThat(SimHash.distance(original, SimHash.fingerprint(edited))).isLessThanOrEqualTo(3);
+        assertThat(SimHash.distance(original, SimHash.fingerprint(OTHER_ARTICLE))).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("인덱스는 해밍 거리 maxDistance 이내 지문만 중복으로 판단")
+    void t3() {
+        //Given
+        SimHashIndex index = new SimHashIndex(3);
+        long fingerprint = 0x0123_4567_89AB_CDEFL;
+        index.add(fingerprint);
+
+        //When
+        long withinThreshold = fingerprint ^ 0b111L;  // 3비트 차이 (같은 블록 안)
+        long spreadWithin = fingerprint ^ (1L | 1L << 20 | 1L << 40); // 3비트 차이 (서로 다른 블록)
+        long beyondThreshold = fingerprint ^ 0b1111L; // 4비트 차이
+
+        //Then
+        assertThat(index.containsNear(withinThreshold)).isTrue();
+        assertThat(index.containsNear(spreadWithin)).isTrue();
+        assertThat(index.containsNear(beyondThreshold)).isFalse();
+    }
+
+    @Test
+    @DisplayName("addIfAbsent 는 비슷한 지문이 없을 때만 추가")
+    void t4() {
+        //Given
+        SimHashIndex index = new SimHashIndex(3);
+        long fingerprint = 42L;
+
+        //When
+        boolean first = index.addIfAbsent(fingerprint);
+        boolean near = index.addIfAbsent(fingerprint ^ 0b11L);
+        boolean far = index.addIfAbsent(~fingerprint);
+
+        //Then
+        assertThat(first).isTrue();
+        assertThat(near).isFalse();
+        assertThat(far).isTrue();
+    }
+
+    @Test
+    @DisplayName("블록 수 이상의 거리는 인덱스가 보장할 수 없으므로 거부")
+    void t5() {
+        assertThatThrownBy(() -> new SimHashIndex(4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
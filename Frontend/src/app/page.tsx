@@ -19,7 +19,6 @@ const calculateLevelFromExp = (exp: number): number => {
 interface NewsArticle {
   id: number;
   title: string;
-  content: string;
   description: string;
   link: string;
   imgUrl?: string;
@@ -689,7 +688,7 @@ export default function Home() {
                         {article.title}
                       </h3>
                       <p className="text-gray-600 text-sm mb-4 line-clamp-3 flex-1">
-                        {article.description || article.content.substring(0, 120)}...
+                        {article.description}...
                       </p>
                       <div className="flex items-center justify-between mt-auto">
                         <span className="text-xs text-gray-500">